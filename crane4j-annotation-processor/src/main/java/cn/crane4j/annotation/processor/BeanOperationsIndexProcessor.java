@@ -0,0 +1,255 @@
+package cn.crane4j.annotation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * <p>Annotation processor which generates the index of types that declare crane4j operations at compile time.<br />
+ * The binary name of any type which itself, its fields, methods or method parameters are annotated by
+ * annotation in package {@code cn.crane4j.annotation} (or annotation meta-annotated by it)
+ * will be written to {@link #INDEX_LOCATION}, one name per line.
+ *
+ * <p>Only the annotations in the above package are recognized by default,
+ * if there are custom annotations resolved by custom {@code OperationAnnotationHandler},
+ * their packages (including sub packages) should be specified by the option {@link #ANNOTATION_PACKAGES_OPTION},
+ * multiple packages are separated by comma, for example:
+ * {@code -Acrane4j.index.annotationPackages=com.example.annotation,com.example.other}.
+ *
+ * <p>At runtime, the index can be loaded by {@code cn.crane4j.core.parser.BeanOperationsIndex},
+ * then the parser can skip the reflective resolution of types which are not in the index.
+ *
+ * <p>To enable the processor, add this module to the annotation processor path of the compiler,
+ * it will be discovered automatically through {@link java.util.ServiceLoader}.
+ *
+ * @author huangchengxing
+ * @since 2.3.0
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(BeanOperationsIndexProcessor.ANNOTATION_PACKAGES_OPTION)
+public class BeanOperationsIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Location of the generated index.
+     */
+    public static final String INDEX_LOCATION = "META-INF/crane4j/bean-operations.index";
+
+    /**
+     * Option of the packages of custom annotations which should be recognized.
+     */
+    public static final String ANNOTATION_PACKAGES_OPTION = "crane4j.index.annotationPackages";
+
+    /**
+     * Package of crane4j annotations.
+     */
+    private static final String ANNOTATION_PACKAGE = "cn.crane4j.annotation";
+
+    /**
+     * Packages of recognized annotations.
+     */
+    private final Set<String> annotationPackages = new HashSet<>();
+
+    /**
+     * Binary names of indexed types.
+     */
+    private final Set<String> indexedTypes = new TreeSet<>();
+
+    /**
+     * Cache of whether the annotation type is crane4j annotation.
+     */
+    private final Map<String, Boolean> annotationTypes = new HashMap<>(16);
+
+    /**
+     * Returns the latest source version supported by the running compiler.
+     *
+     * @return source version
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * Initialize the processor and read the packages of recognized annotations.
+     *
+     * @param processingEnv environment to access facilities the tool framework provides to the processor
+     */
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        annotationPackages.add(ANNOTATION_PACKAGE);
+        String packages = processingEnv.getOptions().get(ANNOTATION_PACKAGES_OPTION);
+        if (packages != null) {
+            for (String pkg : packages.split(",")) {
+                pkg = pkg.trim();
+                if (!pkg.isEmpty()) {
+                    annotationPackages.add(pkg);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collect the types which declare crane4j annotations,
+     * and write them to the index at the last round.
+     *
+     * @param annotations annotation types requested to be processed
+     * @param roundEnv environment for information about the current and prior round
+     * @return always false, the annotations are not claimed by this processor
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement) {
+                collectType((TypeElement) element);
+            }
+        }
+        return false;
+    }
+
+    private void collectType(TypeElement type) {
+        if (isAnnotated(type) || hasAnnotatedMember(type)) {
+            Elements elements = processingEnv.getElementUtils();
+            indexedTypes.add(elements.getBinaryName(type).toString());
+        }
+        // nested types
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed instanceof TypeElement) {
+                collectType((TypeElement) enclosed);
+            }
+        }
+    }
+
+    private boolean hasAnnotatedMember(TypeElement type) {
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed instanceof VariableElement && isAnnotated(enclosed)) {
+                return true;
+            }
+            if (enclosed instanceof ExecutableElement) {
+                if (isAnnotated(enclosed)) {
+                    return true;
+                }
+                for (VariableElement parameter : ((ExecutableElement) enclosed).getParameters()) {
+                    if (isAnnotated(parameter)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isAnnotated(Element element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (isCrane4jAnnotation(annotationType, new HashSet<>())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isCrane4jAnnotation(TypeElement annotationType, Set<String> accessed) {
+        String name = annotationType.getQualifiedName().toString();
+        Boolean result = annotationTypes.get(name);
+        if (result != null) {
+            return result;
+        }
+        // avoid infinite recursion for annotations which annotated by each other
+        if (!accessed.add(name)) {
+            return false;
+        }
+        result = isInAnnotationPackage(annotationType);
+        if (!result && !name.startsWith("java.")) {
+            for (AnnotationMirror meta : annotationType.getAnnotationMirrors()) {
+                if (isCrane4jAnnotation((TypeElement) meta.getAnnotationType().asElement(), accessed)) {
+                    result = true;
+                    break;
+                }
+            }
+        }
+        annotationTypes.put(name, result);
+        return result;
+    }
+
+    private boolean isInAnnotationPackage(TypeElement annotationType) {
+        String name = processingEnv.getElementUtils().getPackageOf(annotationType).getQualifiedName().toString();
+        for (String pkg : annotationPackages) {
+            if (name.equals(pkg) || name.startsWith(pkg + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        if (indexedTypes.isEmpty()) {
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        // keep the types indexed in previous incremental compilation
+        readExistingIndex(filer);
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (OutputStream out = file.openOutputStream();
+                 Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                for (String type : indexedTypes) {
+                    writer.write(type);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.ERROR, "cannot write crane4j bean operations index: " + e.getMessage()
+            );
+        }
+    }
+
+    private void readExistingIndex(Filer filer) {
+        try {
+            FileObject file = filer.getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (InputStream in = file.openInputStream();
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty()) {
+                        indexedTypes.add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // index does not exist yet
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package cn.crane4j.annotation.processor;
+
+import cn.crane4j.annotation.Assemble;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * test for {@link BeanOperationsIndexProcessor}
+ *
+ * @author huangchengxing
+ */
+public class BeanOperationsIndexProcessorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File sourceDir;
+    private File outputDir;
+
+    @Before
+    public void init() throws IOException {
+        sourceDir = folder.newFolder("src");
+        outputDir = folder.newFolder("classes");
+    }
+
+    @Test
+    public void process() throws IOException {
+        writeSource("test/AnnotatedBean.java",
+            "package test;\n" +
+            "import cn.crane4j.annotation.*;\n" +
+            "public class AnnotatedBean {\n" +
+            "    @Assemble(container = \"test\")\n" +
+            "    private Integer id;\n" +
+            "    public static class NotAnnotatedNestedBean {\n" +
+            "        private Integer id;\n" +
+            "    }\n" +
+            "    @Disassemble(type = AnnotatedBean.class)\n" +
+            "    public static class AnnotatedNestedBean {\n" +
+            "    }\n" +
+            "}\n"
+        );
+        writeSource("test/AnnotatedMethodBean.java",
+            "package test;\n" +
+            "public class AnnotatedMethodBean {\n" +
+            "    @cn.crane4j.annotation.AutoOperate(type = Object.class)\n" +
+            "    public Object get() { return null; }\n" +
+            "}\n"
+        );
+        writeSource("test/AnnotatedParameterBean.java",
+            "package test;\n" +
+            "public class AnnotatedParameterBean {\n" +
+            "    public void set(@cn.crane4j.annotation.AutoOperate(type = Object.class) Object arg) { }\n" +
+            "}\n"
+        );
+        writeSource("test/ComposedAnnotation.java",
+            "package test;\n" +
+            "import java.lang.annotation.*;\n" +
+            "@Retention(RetentionPolicy.RUNTIME)\n" +
+            "@cn.crane4j.annotation.Assemble(container = \"test\")\n" +
+            "public @interface ComposedAnnotation {\n" +
+            "}\n"
+        );
+        writeSource("test/ComposedAnnotatedBean.java",
+            "package test;\n" +
+            "public class ComposedAnnotatedBean {\n" +
+            "    @ComposedAnnotation\n" +
+            "    private Integer id;\n" +
+            "}\n"
+        );
+        writeSource("test/NotAnnotatedBean.java",
+            "package test;\n" +
+            "public class NotAnnotatedBean {\n" +
+            "    @Deprecated\n" +
+            "    private Integer id;\n" +
+            "}\n"
+        );
+        Assert.assertTrue(compile());
+
+        File index = new File(outputDir, BeanOperationsIndexProcessor.INDEX_LOCATION);
+        Assert.assertTrue(index.exists());
+        List<String> types = Files.readAllLines(index.toPath(), StandardCharsets.UTF_8);
+        Assert.assertEquals(Arrays.asList(
+            "test.AnnotatedBean",
+            "test.AnnotatedBean$AnnotatedNestedBean",
+            "test.AnnotatedMethodBean",
+            "test.AnnotatedParameterBean",
+            "test.ComposedAnnotatedBean",
+            "test.ComposedAnnotation"
+        ), types);
+    }
+
+    @Test
+    public void processWhenNoAnnotatedTypes() throws IOException {
+        writeSource("test/NotAnnotatedBean.java",
+            "package test;\n" +
+            "public class NotAnnotatedBean {\n" +
+            "    private Integer id;\n" +
+            "}\n"
+        );
+        Assert.assertTrue(compile());
+        File index = new File(outputDir, BeanOperationsIndexProcessor.INDEX_LOCATION);
+        Assert.assertFalse(index.exists());
+    }
+
+    @Test
+    public void processWithAnnotationPackages() throws IOException {
+        writeSource("custom/annotation/CustomAnnotation.java",
+            "package custom.annotation;\n" +
+            "import java.lang.annotation.*;\n" +
+            "@Retention(RetentionPolicy.RUNTIME)\n" +
+            "public @interface CustomAnnotation {\n" +
+            "}\n"
+        );
+        writeSource("test/CustomAnnotatedBean.java",
+            "package test;\n" +
+            "public class CustomAnnotatedBean {\n" +
+            "    @custom.annotation.CustomAnnotation\n" +
+            "    private Integer id;\n" +
+            "}\n"
+        );
+        File index = new File(outputDir, BeanOperationsIndexProcessor.INDEX_LOCATION);
+        // custom annotations are not recognized by default
+        Assert.assertTrue(compile());
+        Assert.assertFalse(index.exists());
+
+        Assert.assertTrue(compile("-A" + BeanOperationsIndexProcessor.ANNOTATION_PACKAGES_OPTION + "=custom, other"));
+        Assert.assertTrue(index.exists());
+        List<String> types = Files.readAllLines(index.toPath(), StandardCharsets.UTF_8);
+        Assert.assertEquals(Collections.singletonList("test.CustomAnnotatedBean"), types);
+    }
+
+    private void writeSource(String path, String content) throws IOException {
+        File file = new File(sourceDir, path);
+        Assert.assertTrue(file.getParentFile().exists() || file.getParentFile().mkdirs());
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean compile(String... extraOptions) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assert.assertNotNull(compiler);
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            List<File> sources = new ArrayList<>();
+            Files.walk(sourceDir.toPath())
+                .filter(p -> p.toString().endsWith(".java"))
+                .forEach(p -> sources.add(p.toFile()));
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(sources);
+            String classpath = new File(Assemble.class.getProtectionDomain().getCodeSource().getLocation().getPath()).getPath();
+            List<String> options = new ArrayList<>(Arrays.asList("-d", outputDir.getPath(), "-classpath", classpath, "-proc:only"));
+            options.addAll(Arrays.asList(extraOptions));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+            task.setProcessors(Collections.singletonList(new BeanOperationsIndexProcessor()));
+            return task.call();
+        }
+    }
+}
@@ -189,6 +189,6 @@ public class ConstantContainerBuilder {
 
         // build container
         String actualNamespace = StringUtils.emptyToDefault(this.namespace, constantClass.getSimpleName());
-        return ImmutableMapContainer.forMap(actualNamespace, isReverse ? CollectionUtils.reverse(data) : data);
+        return ImmutableMapContainer.forCompactMap(actualNamespace, isReverse ? CollectionUtils.reverse(data) : data);
     }
 }
\ No newline at end of file
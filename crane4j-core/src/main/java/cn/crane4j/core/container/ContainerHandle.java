@@ -0,0 +1,98 @@
+package cn.crane4j.core.container;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>A handle of the container with the specified namespace,
+ * which is usually resolved when parsing the operation and held by it.<br />
+ * The container is obtained from the {@link ContainerManager} at the first access and cached in the handle,
+ * then the following accesses are only a volatile read without parsing the namespace or looking up the map.
+ *
+ * <p>When the container of the same namespace is registered again,
+ * the manager will call {@link #reset()} to discard the cached container,
+ * and the new container will be obtained at the next access.
+ * If the handle is not cacheable, the container will always be obtained from the manager.
+ *
+ * @author huangchengxing
+ * @see ContainerManager#getContainerHandle
+ * @since 2.3.0
+ */
+public class ContainerHandle {
+
+    /**
+     * namespace of container
+     */
+    @Getter
+    private final String namespace;
+
+    /**
+     * container manager which the container is obtained from
+     */
+    @Getter
+    private final ContainerManager containerManager;
+    private final boolean cacheable;
+
+    /**
+     * the slot will be replaced by a new one when reset,
+     * so the container obtained before reset will never be cached
+     */
+    private final AtomicReference<Slot> slot = new AtomicReference<>(new Slot(null));
+
+    /**
+     * Create a {@link ContainerHandle} instance.
+     *
+     * @param namespace namespace of container
+     * @param containerManager container manager
+     * @param cacheable whether to cache the container obtained from manager,
+     *                  it should be true only if the manager will reset the handle when container registered
+     */
+    public ContainerHandle(String namespace, ContainerManager containerManager, boolean cacheable) {
+        this.namespace = namespace;
+        this.containerManager = containerManager;
+        this.cacheable = cacheable;
+    }
+
+    /**
+     * Get the container.
+     *
+     * @return container, or null if the container is not found
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <K> Container<K> getContainer() {
+        if (!cacheable) {
+            return containerManager.getContainer(namespace);
+        }
+        Slot current = slot.get();
+        Container<?> container = current.container;
+        if (Objects.isNull(container)) {
+            container = containerManager.getContainer(namespace);
+            // if the handle is reset during obtaining, the container may be outdated
+            if (Objects.nonNull(container)) {
+                slot.compareAndSet(current, new Slot(container));
+            }
+        }
+        return (Container<K>)container;
+    }
+
+    /**
+     * Discard the cached container.
+     */
+    public void reset() {
+        slot.set(new Slot(null));
+    }
+
+    /**
+     * Slot of cached container.
+     */
+    @RequiredArgsConstructor
+    private static class Slot {
+        @Nullable
+        private final Container<?> container;
+    }
+}
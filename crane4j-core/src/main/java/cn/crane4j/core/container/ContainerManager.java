@@ -6,6 +6,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Supplier;
 
 /**
@@ -138,6 +139,58 @@ public interface ContainerManager extends ConfigurableContainerProvider {
     @Override
     <K> Container<K> getContainer(String namespace);
 
+    /**
+     * <p>Get the handle of container with the specified namespace.<br />
+     * By default, the handle always obtains the container from the manager,
+     * if the manager resets the handles when the container registered,
+     * it can return a cacheable handle.
+     *
+     * @param namespace namespace of container
+     * @return handle of container
+     * @see ContainerHandle
+     * @since 2.3.0
+     */
+    default ContainerHandle getContainerHandle(String namespace) {
+        return new ContainerHandle(namespace, this, false);
+    }
+
+    /**
+     * <p>Pin the containers currently registered before reading them.<br />
+     * If the manager supports, the containers replaced or removed after pinned
+     * will not be destroyed until {@link #unpinContainers} is called with the returned value,
+     * so the caller can always read the complete data from containers it obtained.
+     *
+     * @return pinned epoch, or {@code -1} if not supported
+     * @since 2.3.0
+     */
+    default long pinContainers() {
+        return -1L;
+    }
+
+    /**
+     * Unpin the containers pinned by {@link #pinContainers()}.
+     *
+     * @param pinned value returned by {@link #pinContainers()}
+     * @since 2.3.0
+     */
+    default void unpinContainers(long pinned) {
+        // do nothing
+    }
+
+    /**
+     * <p>Get the modification count of the manager.<br />
+     * The count will be increased when any container or container provider is registered,
+     * so the caller can cache the containers obtained from the manager,
+     * and obtain them again when the count changed.<br />
+     * If the manager does not support it, return {@code -1}, and the containers should not be cached.
+     *
+     * @return modification count, or {@code -1} if not supported
+     * @since 2.3.0
+     */
+    default long getModificationCount() {
+        return -1L;
+    }
+
     /**
      * Get all limited containers.
      *
@@ -146,6 +199,18 @@ public interface ContainerManager extends ConfigurableContainerProvider {
      */
     Collection<Container<Object>> getAllLimitedContainers();
 
+    /**
+     * Get namespaces of all registered containers,
+     * the containers which can only be obtained from provider are not included.<br />
+     * If the implementation does not support it, an empty collection will be returned.
+     *
+     * @return namespaces of registered containers
+     * @since 2.3.0
+     */
+    default Collection<String> getRegisteredNamespaces() {
+        return Collections.emptyList();
+    }
+
     /**
      * Obtaining and caching container instances from the specified container provider..
      *
@@ -0,0 +1,121 @@
+package cn.crane4j.core.container;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A reclaimer used to delay the destruction of replaced containers
+ * until all executions that may still read them are finished.<br />
+ * It works like the epoch based reclamation of RCU:
+ * <ul>
+ *     <li>
+ *         the reader calls {@link #pin()} before obtaining containers,
+ *         and calls {@link #unpin(long)} after all operations are completed;
+ *     </li>
+ *     <li>
+ *         the writer replaces the container first, then calls {@link #retire(Runnable)} with the destroy action,
+ *         the action will be executed after all readers pinned before retiring are unpinned.
+ *     </li>
+ * </ul>
+ * Because the reader always obtains containers after pinned,
+ * the reader pinned after retiring can only see the new container,
+ * so the old container can be destroyed safely once the earlier readers are gone.
+ *
+ * @author huangchengxing
+ * @see DefaultContainerManager
+ * @since 2.3.0
+ */
+public class ContainerReclaimer {
+
+    /**
+     * current epoch, which will be increased when any target retired
+     */
+    private final AtomicLong epoch = new AtomicLong(0L);
+
+    /**
+     * number of readers pinned at each epoch
+     */
+    private final ConcurrentMap<Long, Integer> readers = new ConcurrentHashMap<>(8);
+
+    /**
+     * retired targets waiting for destruction
+     */
+    private final Queue<Retired> retired = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Pin current epoch, the targets retired after now will not be destroyed until unpinned.
+     *
+     * @return pinned epoch, which should be passed to {@link #unpin(long)}
+     */
+    public long pin() {
+        long current = epoch.get();
+        readers.merge(current, 1, Integer::sum);
+        return current;
+    }
+
+    /**
+     * Unpin the epoch, and destroy the retired targets which are no longer read.
+     *
+     * @param pinned pinned epoch
+     */
+    public void unpin(long pinned) {
+        readers.computeIfPresent(pinned, (e, count) -> count > 1 ? count - 1 : null);
+        if (!retired.isEmpty()) {
+            reclaim();
+        }
+    }
+
+    /**
+     * Retire a replaced target, the destroy action will be executed
+     * immediately if there is no reader pinned before, otherwise after they are unpinned.
+     *
+     * @param destroyAction destroy action
+     */
+    public void retire(Runnable destroyAction) {
+        long retiredEpoch = epoch.getAndIncrement();
+        retired.add(new Retired(retiredEpoch, destroyAction));
+        reclaim();
+    }
+
+    /**
+     * Get the number of retired targets waiting for destruction.
+     *
+     * @return number of retired targets
+     */
+    public int getRetiredCount() {
+        return retired.size();
+    }
+
+    private void reclaim() {
+        long oldestPinned = Long.MAX_VALUE;
+        for (Long pinned : readers.keySet()) {
+            oldestPinned = Math.min(oldestPinned, pinned);
+        }
+        Iterator<Retired> iterator = retired.iterator();
+        while (iterator.hasNext()) {
+            Retired target = iterator.next();
+            // only the readers pinned before or at the epoch of retiring may read the target
+            if (target.epoch < oldestPinned && target.destroyed.compareAndSet(false, true)) {
+                iterator.remove();
+                target.destroyAction.run();
+            }
+        }
+    }
+
+    /**
+     * Retired target.
+     */
+    @RequiredArgsConstructor
+    private static class Retired {
+        private final long epoch;
+        private final Runnable destroyAction;
+        private final AtomicBoolean destroyed = new AtomicBoolean(false);
+    }
+}
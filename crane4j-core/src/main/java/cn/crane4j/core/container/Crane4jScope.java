@@ -0,0 +1,155 @@
+package cn.crane4j.core.container;
+
+import cn.crane4j.core.cache.CacheManager;
+import cn.crane4j.core.cache.ConcurrentMapCacheManager;
+import cn.crane4j.core.util.Asserts;
+import cn.crane4j.core.util.CollectionUtils;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>A scope used to memoize the query results of containers.<br />
+ * When the scope is opened in the current thread,
+ * all containers used by the executor will be wrapped as {@link CacheableContainer},
+ * and the results will be memoized by container and key until the scope is closed,
+ * so the same keys will not be queried repeatedly even if the executor is called several times.
+ * for example:
+ * <pre>{@code
+ * try (Crane4jScope scope = Crane4jScope.open()) {
+ *     operateTemplate.execute(users);
+ *     operateTemplate.execute(depts);
+ * }
+ * }</pre>
+ * If the scope is opened again when a scope is already opened in the current thread,
+ * the new scope will share the memoized results with the outer scope,
+ * and the results will be released only when the outermost scope is closed.
+ *
+ * <p><b>NOTE:</b>The scope is bound to the thread which opened it,
+ * so it must be closed in the same thread, and it is recommended to use it in try-with-resources.
+ * The nested scopes must be closed in the reverse order of opening,
+ * otherwise an exception will be thrown.
+ *
+ * @author huangchengxing
+ * @see CacheableContainer
+ * @see cn.crane4j.core.executor.AbstractBeanOperationExecutor
+ * @since 2.3.0
+ */
+public class Crane4jScope implements AutoCloseable {
+
+    /**
+     * scope of current thread
+     */
+    private static final ThreadLocal<Crane4jScope> CURRENT_SCOPE = new ThreadLocal<>();
+
+    /**
+     * outer scope
+     */
+    @Nullable
+    private final Crane4jScope parent;
+
+    /**
+     * cache manager used to memoize the query results
+     */
+    private final CacheManager cacheManager;
+
+    /**
+     * wrapped containers
+     */
+    private final ConcurrentMap<Container<?>, CacheableContainer<?>> wrappedContainers;
+
+    /**
+     * sequence used to generate unique cache name for each wrapped container
+     */
+    private final AtomicInteger cacheNameSequence;
+
+    private Crane4jScope(@Nullable Crane4jScope parent) {
+        this.parent = parent;
+        if (Objects.isNull(parent)) {
+            this.cacheManager = new ConcurrentMapCacheManager(ConcurrentHashMap::new);
+            this.wrappedContainers = new ConcurrentHashMap<>(8);
+            this.cacheNameSequence = new AtomicInteger(0);
+        } else {
+            this.cacheManager = parent.cacheManager;
+            this.wrappedContainers = parent.wrappedContainers;
+            this.cacheNameSequence = parent.cacheNameSequence;
+        }
+    }
+
+    /**
+     * Open a scope in current thread.
+     *
+     * @return scope
+     */
+    public static Crane4jScope open() {
+        Crane4jScope scope = new Crane4jScope(CURRENT_SCOPE.get());
+        CURRENT_SCOPE.set(scope);
+        return scope;
+    }
+
+    /**
+     * Get the scope opened in current thread.
+     *
+     * @return scope, or {@code null} if no scope is opened in current thread
+     */
+    @Nullable
+    public static Crane4jScope current() {
+        return CURRENT_SCOPE.get();
+    }
+
+    /**
+     * <p>Wrap the container with the scope of current thread if necessary.<br />
+     * If no scope is opened in current thread, return the container itself.
+     *
+     * @param container container
+     * @param <K> key type
+     * @return container
+     */
+    public static <K> Container<K> wrapIfNecessary(Container<K> container) {
+        Crane4jScope scope = CURRENT_SCOPE.get();
+        return Objects.isNull(scope) ? container : scope.wrap(container);
+    }
+
+    /**
+     * <p>Wrap the container as a {@link CacheableContainer} which memoize the results in the scope.<br />
+     * The same wrapper will be returned for the same container in the scope,
+     * and each wrapper has its own cache even if the namespaces of containers are same.
+     *
+     * @param container container
+     * @param <K> key type
+     * @return container
+     */
+    @SuppressWarnings("unchecked")
+    public <K> Container<K> wrap(Container<K> container) {
+        if (Objects.isNull(container) || container instanceof EmptyContainer) {
+            return container;
+        }
+        return (Container<K>)CollectionUtils.computeIfAbsent(
+            wrappedContainers, container, c -> new CacheableContainer<>(
+                (Container<Object>)c, cacheManager, c.getNamespace() + "#" + cacheNameSequence.incrementAndGet()
+            )
+        );
+    }
+
+    /**
+     * Close the scope, and release the memoized results if it is the outermost scope.
+     *
+     * @throws cn.crane4j.core.exception.Crane4jException thrown when the scope is not the current scope of thread
+     */
+    @Override
+    public void close() {
+        Asserts.isTrue(
+            CURRENT_SCOPE.get() == this, "the scope to be closed is not the current scope of thread [{}]", Thread.currentThread().getName()
+        );
+        if (Objects.isNull(parent)) {
+            CURRENT_SCOPE.remove();
+            wrappedContainers.values().forEach(c -> cacheManager.removeCache(c.getCacheName()));
+            wrappedContainers.clear();
+        } else {
+            CURRENT_SCOPE.set(parent);
+        }
+    }
+}
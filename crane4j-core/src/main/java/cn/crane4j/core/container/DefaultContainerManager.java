@@ -2,6 +2,7 @@ package cn.crane4j.core.container;
 
 import cn.crane4j.core.container.lifecycle.ContainerLifecycleProcessor;
 import cn.crane4j.core.util.Asserts;
+import cn.crane4j.core.util.CollectionUtils;
 import cn.crane4j.core.util.ConfigurationUtil;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -18,10 +19,18 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
- * A base implementation of {@link ContainerManager}.
+ * <p>A base implementation of {@link ContainerManager}.
+ *
+ * <p>When a container is replaced by registering again or removed by {@link #clear()},
+ * the new container will be visible to the following executions immediately,
+ * but the old one will not be destroyed until the executions which
+ * have pinned containers by {@link #pinContainers()} before are finished,
+ * so the in-flight executions always read the complete data of the old container.
  *
  * @author huangchengxing
  */
@@ -43,6 +52,34 @@ public class DefaultContainerManager implements ContainerManager {
      */
     protected final Map<String, ContainerProvider> containerProviderMap = new LinkedHashMap<>();
 
+    /**
+     * Modification count of registered containers and container providers.
+     *
+     * @since 2.3.0
+     */
+    private final AtomicLong modificationCount = new AtomicLong(0L);
+
+    /**
+     * Cache keys of resolved namespaces.
+     *
+     * @since 2.3.0
+     */
+    private final ConcurrentMap<String, Object> resolvedCacheKeys = new ConcurrentHashMap<>(64);
+
+    /**
+     * Handles of containers, the key is the cache key of namespace.
+     *
+     * @since 2.3.0
+     */
+    private final ConcurrentMap<Object, ContainerHandle> containerHandles = new ConcurrentHashMap<>(64);
+
+    /**
+     * Reclaimer of replaced containers.
+     *
+     * @since 2.3.0
+     */
+    private final ContainerReclaimer containerReclaimer = new ContainerReclaimer();
+
     // =============== lifecycle lifecycle  ===============
 
     /**
@@ -76,6 +113,7 @@ public class DefaultContainerManager implements ContainerManager {
     @Override
     public void registerContainerProvider(String name, ContainerProvider containerProvider) {
         containerProviderMap.put(name, containerProvider);
+        modificationCount.incrementAndGet();
     }
 
     /**
@@ -104,7 +142,8 @@ public class DefaultContainerManager implements ContainerManager {
     @Override
     public ContainerDefinition registerContainer(ContainerDefinition definition) {
         Asserts.isNotNull(definition, "definition must not null");
-        Object key = getCacheKey(definition.getNamespace());
+        Object key = resolveCacheKey(definition.getNamespace());
+        AtomicReference<Object> replaced = new AtomicReference<>();
         containerMap.compute(key, (k, t) -> {
             // process new definition
             ContainerDefinition newDefinition = ConfigurationUtil.triggerWhenRegistered(
@@ -114,13 +153,21 @@ public class DefaultContainerManager implements ContainerManager {
             if (Objects.isNull(newDefinition)) {
                 return t;
             }
-            // remove old instance or definition
-            if (Objects.nonNull(t)) {
-                ConfigurationUtil.triggerWhenDestroyed(t, containerLifecycleProcessorList);
-            }
+            // old instance or definition will be removed after the new one is visible
+            replaced.set(t);
             // register new definition
             return definition;
         });
+        modificationCount.incrementAndGet();
+        // discard the container cached by handle
+        ContainerHandle handle = containerHandles.get(key);
+        if (Objects.nonNull(handle)) {
+            handle.reset();
+        }
+        Object old = replaced.get();
+        if (Objects.nonNull(old)) {
+            retire(old);
+        }
         return definition;
     }
 
@@ -138,10 +185,40 @@ public class DefaultContainerManager implements ContainerManager {
             return Container.empty();
         }
         // check if the container is created
-        Object key = getCacheKey(namespace);
+        Object key = resolveCacheKey(namespace);
         return doGetContainer(key);
     }
 
+    /**
+     * <p>Get the handle of container with the specified namespace.<br />
+     * The handles are cached by namespace,
+     * and will be reset when the container of the same namespace registered.
+     *
+     * @param namespace namespace of container
+     * @return handle of container
+     * @see ContainerHandle
+     * @since 2.3.0
+     */
+    @Override
+    public ContainerHandle getContainerHandle(String namespace) {
+        Object key = resolveCacheKey(namespace);
+        return CollectionUtils.computeIfAbsent(
+            containerHandles, key, k -> new ContainerHandle(namespace, this, true)
+        );
+    }
+
+    /**
+     * Get the modification count of the manager,
+     * it will be increased when any container or container provider is registered.
+     *
+     * @return modification count
+     * @since 2.3.0
+     */
+    @Override
+    public long getModificationCount() {
+        return modificationCount.get();
+    }
+
     /**
      * Get all limited containers.
      *
@@ -157,6 +234,21 @@ public class DefaultContainerManager implements ContainerManager {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Get namespaces of all registered containers,
+     * the containers which can only be obtained from provider are not included.
+     *
+     * @return namespaces of registered containers
+     */
+    @Override
+    public Collection<String> getRegisteredNamespaces() {
+        return containerMap.keySet().stream()
+            .map(key -> key instanceof CacheKey ?
+                ContainerManager.canonicalNamespace(((CacheKey)key).getNamespace(), ((CacheKey)key).getProviderName()) : key.toString()
+            )
+            .collect(Collectors.toList());
+    }
+
     @SuppressWarnings("unchecked")
     @Nullable
     private <K> Container<K> doGetContainer(Object key) {
@@ -190,7 +282,7 @@ public class DefaultContainerManager implements ContainerManager {
      */
     @Override
     public boolean containsContainer(String namespace) {
-        Object key = getCacheKey(namespace);
+        Object key = resolveCacheKey(namespace);
         if (key instanceof String) {
             return containerMap.containsKey(key);
         }
@@ -208,12 +300,46 @@ public class DefaultContainerManager implements ContainerManager {
     @Override
     public void clear() {
         log.info("clear all cache for container manager");
-        containerMap.values().forEach(t -> ConfigurationUtil.triggerWhenDestroyed(t, containerLifecycleProcessorList));
+        List<Object> removed = new ArrayList<>(containerMap.values());
         containerMap.clear();
+        containerHandles.values().forEach(ContainerHandle::reset);
+        modificationCount.incrementAndGet();
+        removed.forEach(this::retire);
         containerProviderMap.clear();
         containerLifecycleProcessorList.clear();
     }
 
+    /**
+     * <p>Pin the containers currently registered.<br />
+     * The containers replaced or removed after now will not be destroyed until unpinned.
+     *
+     * @return pinned epoch
+     * @see ContainerReclaimer#pin()
+     * @since 2.3.0
+     */
+    @Override
+    public long pinContainers() {
+        return containerReclaimer.pin();
+    }
+
+    /**
+     * Unpin the containers, and destroy the replaced containers which are no longer used.
+     *
+     * @param pinned pinned epoch returned by {@link #pinContainers()}
+     * @see ContainerReclaimer#unpin(long)
+     * @since 2.3.0
+     */
+    @Override
+    public void unpinContainers(long pinned) {
+        containerReclaimer.unpin(pinned);
+    }
+
+    private void retire(Object target) {
+        // the processors may be changed before the target is destroyed
+        List<ContainerLifecycleProcessor> processors = new ArrayList<>(containerLifecycleProcessorList);
+        containerReclaimer.retire(() -> ConfigurationUtil.triggerWhenDestroyed(target, processors));
+    }
+
     // ================ product methods ================
 
     /**
@@ -268,6 +394,17 @@ public class DefaultContainerManager implements ContainerManager {
         );
     }
 
+    /**
+     * Get cache key of namespace, the resolved keys will be cached.
+     *
+     * @param namespace namespace of container
+     * @return cache key
+     * @see #getCacheKey
+     */
+    private Object resolveCacheKey(String namespace) {
+        return CollectionUtils.computeIfAbsent(resolvedCacheKeys, namespace, this::getCacheKey);
+    }
+
     /**
      * Get cache key for container comparator.
      *
@@ -9,11 +9,12 @@ import cn.crane4j.core.support.SimpleAnnotationFinder;
 import cn.crane4j.core.support.reflect.PropertyOperator;
 import cn.crane4j.core.support.reflect.ReflectivePropertyOperator;
 import cn.crane4j.core.util.Asserts;
+import cn.crane4j.core.util.EnumIndexedMap;
 import cn.crane4j.core.util.StringUtils;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
@@ -231,15 +232,19 @@ public class EnumContainerBuilder<K, T extends Enum<?>> {
         }
 
         // build container
-        Map<K, Object> enumMap = new HashMap<>(enumType.getEnumConstants().length);
-        for (T e : enumType.getEnumConstants()) {
+        T[] constants = enumType.getEnumConstants();
+        Object[] keysByOrdinal = new Object[constants.length];
+        Map<K, Object> enumMap = new LinkedHashMap<>(constants.length);
+        for (T e : constants) {
             K key = (K)keyGetter.apply(e);
+            keysByOrdinal[e.ordinal()] = key;
             Object newVal = valueGetter.apply(e);
             enumMap.compute(key, (k, oldVal) ->
                 Objects.isNull(oldVal) ? newVal : duplicateStrategy.choose(k, oldVal, newVal));
         }
         namespace = StringUtils.emptyToDefault(this.namespace, enumType.getSimpleName());
-        return ImmutableMapContainer.forMap(namespace, enumMap);
+        // the values can be found by ordinal if keys are enum constants, or by int code directly
+        return ImmutableMapContainer.forMap(namespace, EnumIndexedMap.of(enumType, enumMap, keysByOrdinal));
     }
 
     private void resolveConfigFromAnnotation(ContainerEnum annotation) {
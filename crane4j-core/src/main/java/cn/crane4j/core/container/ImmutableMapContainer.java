@@ -1,5 +1,6 @@
 package cn.crane4j.core.container;
 
+import cn.crane4j.core.util.CompactImmutableMap;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -16,6 +17,7 @@ import java.util.Objects;
  * <p>Supports the following factory methods to create containers:
  * <ul>
  *     <li>{@link #forMap}: key-value pairs in the specified map;</li>
+ *     <li>{@link #forCompactMap}: an immutable copy of key-value pairs in the specified map;</li>
  * </ul>
  * this method also supports configuration through annotations.
  *
@@ -58,6 +60,24 @@ public class ImmutableMapContainer<K> implements LimitedContainer<K>, Container.
         return new ImmutableMapContainer<>(namespace, data);
     }
 
+    /**
+     * <p>Create a key-value pair container based on the immutable copy of specified {@link Map} instance.<br />
+     * The data is frozen into a {@link CompactImmutableMap} when creating,
+     * which is faster to look up and takes less memory than the general map,
+     * it is suitable for the data that will never be changed, such as enums or constants.
+     *
+     * @param namespace namespace
+     * @param data      data source objects grouped by key value
+     * @param <K>       key type
+     * @return container
+     * @since 2.3.0
+     */
+    public static <K> ImmutableMapContainer<K> forCompactMap(String namespace, @NonNull Map<K, ?> data) {
+        Objects.requireNonNull(namespace, "namespace must not null");
+        Objects.requireNonNull(data, "data must not null");
+        return new ImmutableMapContainer<>(namespace, CompactImmutableMap.copyOf(data));
+    }
+
     /**
      * Enter a batch of key values to return data source objects grouped by key values.
      *
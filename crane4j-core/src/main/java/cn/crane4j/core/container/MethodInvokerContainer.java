@@ -12,12 +12,13 @@ import lombok.Setter;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * <p>Method data source container, specify any method without parameters
@@ -93,18 +94,56 @@ public class MethodInvokerContainer implements Container<Object> {
         }
         // group return values by type
         Collection<?> invokeResults = CollectionUtils.adaptObjectToCollection(invokeResult);
-        // one to one
-        if (mappingType == MappingType.ONE_TO_ONE) {
-            Map<Object, Object> results = new HashMap<>(invokeResults.size());
-            invokeResults.forEach(newVal -> {
-                Object k = keyExtractor.getKey(newVal);
-                results.compute(k, (key, oldVal) ->
-                    Objects.isNull(oldVal) ? newVal : duplicateStrategy.choose(key, oldVal, newVal));
-            });
-            return results;
+        return mappingType == MappingType.ONE_TO_ONE ?
+            groupOneToOne(invokeResults) : groupOneToMany(keys, invokeResults);
+    }
+
+    /**
+     * Group the results by key, and choose one of them by {@link #duplicateStrategy} if the key is duplicated.
+     *
+     * @param invokeResults invoke results
+     * @return data source objects grouped by key value
+     */
+    private Map<Object, Object> groupOneToOne(Collection<?> invokeResults) {
+        Map<Object, Object> results = new HashMap<>(capacityOf(invokeResults.size()));
+        for (Object newVal : invokeResults) {
+            Object k = keyExtractor.getKey(newVal);
+            // most of the keys are not duplicated, so put it first and check the old value later
+            Object oldVal = results.put(k, newVal);
+            if (Objects.nonNull(oldVal)) {
+                results.put(k, duplicateStrategy.choose(k, oldVal, newVal));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Group the results by key.
+     *
+     * @param keys keys
+     * @param invokeResults invoke results
+     * @return data source objects grouped by key value
+     */
+    private Map<Object, List<Object>> groupOneToMany(@Nullable Collection<Object> keys, Collection<?> invokeResults) {
+        // the number of groups is at most the number of keys
+        int expectedSize = Objects.isNull(keys) ?
+            invokeResults.size() : Math.min(keys.size(), invokeResults.size());
+        Map<Object, List<Object>> results = new HashMap<>(capacityOf(expectedSize));
+        for (Object val : invokeResults) {
+            Object k = keyExtractor.getKey(val);
+            List<Object> group = results.get(k);
+            if (Objects.isNull(group)) {
+                group = new ArrayList<>();
+                results.put(k, group);
+            }
+            group.add(val);
         }
-        // one to many
-        return invokeResults.stream().collect(Collectors.groupingBy(keyExtractor::getKey));
+        return results;
+    }
+
+    private static int capacityOf(int expectedSize) {
+        // avoid resizing when the map is filled to the expected size
+        return (int)(expectedSize / 0.75f) + 1;
     }
 
     /**
@@ -0,0 +1,293 @@
+package cn.crane4j.core.container;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>A {@link LimitedContainer} which preloads all data through the loader,
+ * and serves all lookups from an immutable snapshot in memory.<br />
+ * The snapshot can be refreshed on demand by {@link #refresh()},
+ * or in background periodically if {@link #refreshInterval} is set,
+ * the new snapshot will replace the old one atomically after loaded,
+ * so the lookups never wait for loading, and never read the data partially refreshed.
+ * For example:
+ * <pre>{@code
+ * RefreshingContainer<Integer> container = RefreshingContainer.forLoader("dict", dictService::listAll);
+ * container.setRefreshInterval(5, TimeUnit.MINUTES);
+ * containerManager.registerContainer(container);
+ * }</pre>
+ *
+ * <p>If the data has a version property which is increased when it is changed,
+ * the container can be created by {@link #forDeltaLoader},
+ * then only the data changed after the latest version will be loaded when refreshing,
+ * and the removed data still needs to be discarded by {@link #refresh(boolean)} with a full reload.
+ *
+ * <p>The container will preload the data and start refreshing when {@link #init()},
+ * and stop refreshing when {@link #destroy()},
+ * both of them will be called by {@link ContainerManager} if
+ * {@link cn.crane4j.core.container.lifecycle.ContainerInstanceLifecycleProcessor} is registered.
+ *
+ * @param <K> key type
+ * @author huangchengxing
+ * @see ImmutableMapContainer
+ * @since 2.3.0
+ */
+@Slf4j
+public class RefreshingContainer<K> implements LimitedContainer<K>, Container.Lifecycle {
+
+    /**
+     * namespace of the data source container
+     */
+    @Getter
+    private final String namespace;
+
+    /**
+     * loader to load all data
+     */
+    private final Supplier<? extends Map<K, ?>> loader;
+
+    /**
+     * loader to load data changed after the specified version
+     */
+    @Nullable
+    private final LongFunction<? extends Map<K, ?>> deltaLoader;
+
+    /**
+     * getter to get the version of data
+     */
+    @Nullable
+    private final ToLongFunction<Object> versionGetter;
+
+    /**
+     * The executor to refresh data periodically,
+     * if it is not set, a single daemon thread executor will be created when necessary.
+     */
+    @Nullable
+    @Setter
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * The interval to refresh data in milliseconds,
+     * if it is less than or equal to 0, the data will only be refreshed on demand.
+     */
+    private long refreshInterval = -1L;
+
+    private volatile Snapshot<K> snapshot;
+    private ScheduledExecutorService ownedScheduler;
+    private ScheduledFuture<?> scheduledRefresh;
+
+    /**
+     * Create a container which loads all data when refreshing.
+     *
+     * @param namespace namespace
+     * @param loader loader to load all data
+     * @param <K> key type
+     * @return container
+     */
+    public static <K> RefreshingContainer<K> forLoader(
+        String namespace, @NonNull Supplier<? extends Map<K, ?>> loader) {
+        return new RefreshingContainer<>(namespace, loader, null, null);
+    }
+
+    /**
+     * Create a container which only loads the data changed after the latest version when refreshing.
+     *
+     * @param namespace namespace
+     * @param loader loader to load all data
+     * @param deltaLoader loader to load data which version is greater than the specified version
+     * @param versionGetter getter to get the version of data
+     * @param <K> key type
+     * @return container
+     */
+    public static <K> RefreshingContainer<K> forDeltaLoader(
+        String namespace, @NonNull Supplier<? extends Map<K, ?>> loader,
+        @NonNull LongFunction<? extends Map<K, ?>> deltaLoader, @NonNull ToLongFunction<Object> versionGetter) {
+        Objects.requireNonNull(deltaLoader, "deltaLoader must not null");
+        Objects.requireNonNull(versionGetter, "versionGetter must not null");
+        return new RefreshingContainer<>(namespace, loader, deltaLoader, versionGetter);
+    }
+
+    private RefreshingContainer(
+        String namespace, Supplier<? extends Map<K, ?>> loader,
+        @Nullable LongFunction<? extends Map<K, ?>> deltaLoader, @Nullable ToLongFunction<Object> versionGetter) {
+        Objects.requireNonNull(namespace, "namespace must not null");
+        Objects.requireNonNull(loader, "loader must not null");
+        this.namespace = namespace;
+        this.loader = loader;
+        this.deltaLoader = deltaLoader;
+        this.versionGetter = versionGetter;
+    }
+
+    /**
+     * Set the interval to refresh data periodically.
+     *
+     * @param interval interval, if it is less than or equal to 0, the data will only be refreshed on demand
+     * @param unit time unit
+     */
+    public void setRefreshInterval(long interval, TimeUnit unit) {
+        this.refreshInterval = unit.toMillis(interval);
+    }
+
+    /**
+     * Enter a batch of key values to return data source objects grouped by key values.
+     * The data is always obtained from the snapshot, and the data will be loaded if it is not loaded yet.
+     *
+     * @param keys keys
+     * @return data source objects grouped by key value
+     */
+    @Override
+    public Map<K, ?> get(Collection<K> keys) {
+        return getSnapshot().getData();
+    }
+
+    /**
+     * Get all data source objects in the container.
+     *
+     * @return all elements
+     */
+    @Override
+    public Map<K, ?> getAll() {
+        return getSnapshot().getData();
+    }
+
+    /**
+     * Get the version of current snapshot.
+     *
+     * @return version, or {@code -1} if the data has no version or not loaded yet
+     */
+    public long getVersion() {
+        Snapshot<K> current = snapshot;
+        return Objects.isNull(current) ? -1L : current.getVersion();
+    }
+
+    /**
+     * Refresh the data, only load the changed data if the container supports delta loading.
+     */
+    public void refresh() {
+        refresh(false);
+    }
+
+    /**
+     * Refresh the data.
+     *
+     * @param full whether to load all data even if the container supports delta loading
+     */
+    public synchronized void refresh(boolean full) {
+        Snapshot<K> current = snapshot;
+        if (full || Objects.isNull(current) || Objects.isNull(deltaLoader)) {
+            snapshot = createSnapshot(Collections.emptyMap(), loader.get(), -1L);
+            return;
+        }
+        Map<K, ?> changed = deltaLoader.apply(current.getVersion());
+        if (Objects.nonNull(changed) && !changed.isEmpty()) {
+            snapshot = createSnapshot(current.getData(), changed, current.getVersion());
+        }
+    }
+
+    /**
+     * Preload the data and start refreshing periodically if necessary.
+     */
+    @Override
+    public synchronized void init() {
+        if (Objects.isNull(snapshot)) {
+            refresh(true);
+        }
+        if (refreshInterval <= 0 || Objects.nonNull(scheduledRefresh)) {
+            return;
+        }
+        ScheduledExecutorService executor = scheduler;
+        if (Objects.isNull(executor)) {
+            ownedScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "crane4j-refreshing-container-" + namespace);
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor = ownedScheduler;
+        }
+        scheduledRefresh = executor.scheduleWithFixedDelay(
+            this::refreshQuietly, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Stop refreshing, the loaded data is still available.
+     */
+    @Override
+    public synchronized void destroy() {
+        if (Objects.nonNull(scheduledRefresh)) {
+            scheduledRefresh.cancel(false);
+            scheduledRefresh = null;
+        }
+        if (Objects.nonNull(ownedScheduler)) {
+            ownedScheduler.shutdown();
+            ownedScheduler = null;
+        }
+    }
+
+    private Snapshot<K> getSnapshot() {
+        Snapshot<K> current = snapshot;
+        if (Objects.isNull(current)) {
+            synchronized (this) {
+                if (Objects.isNull(snapshot)) {
+                    refresh(true);
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh(false);
+        } catch (Exception ex) {
+            // keep the current snapshot if failed
+            log.warn("failed to refresh data of container [{}]", namespace, ex);
+        }
+    }
+
+    private Snapshot<K> createSnapshot(Map<K, ?> base, @Nullable Map<K, ?> changed, long version) {
+        Map<K, Object> data = new HashMap<>(base);
+        if (Objects.isNull(changed)) {
+            return new Snapshot<>(Collections.unmodifiableMap(data), version);
+        }
+        data.putAll(changed);
+        if (Objects.nonNull(versionGetter)) {
+            for (Object value : changed.values()) {
+                if (Objects.nonNull(value)) {
+                    version = Math.max(version, versionGetter.applyAsLong(value));
+                }
+            }
+        }
+        return new Snapshot<>(Collections.unmodifiableMap(data), version);
+    }
+
+    /**
+     * Immutable snapshot of data.
+     *
+     * @author huangchengxing
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class Snapshot<K> {
+        private final Map<K, ?> data;
+        private final long version;
+    }
+}
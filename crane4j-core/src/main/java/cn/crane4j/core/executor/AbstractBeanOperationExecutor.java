@@ -1,26 +1,44 @@
 package cn.crane4j.core.executor;
 
 import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerHandle;
 import cn.crane4j.core.container.ContainerManager;
+import cn.crane4j.core.container.Crane4jScope;
 import cn.crane4j.core.exception.OperationExecuteException;
 import cn.crane4j.core.executor.handler.DisassembleOperationHandler;
 import cn.crane4j.core.parser.BeanOperations;
 import cn.crane4j.core.parser.operation.AssembleOperation;
 import cn.crane4j.core.parser.operation.DisassembleOperation;
 import cn.crane4j.core.parser.operation.KeyTriggerOperation;
+import cn.crane4j.core.support.GroupFilter;
+import cn.crane4j.core.support.Grouped;
 import cn.crane4j.core.util.Asserts;
 import cn.crane4j.core.util.CollectionUtils;
 import cn.crane4j.core.util.MultiMap;
 import cn.crane4j.core.util.TimerUtil;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  *
@@ -54,6 +72,27 @@ import java.util.function.Predicate;
  * For performance reasons, when implementing the {@link #executeOperations} method,
  * it is recommended to minimize the number of accesses to the {@link Container}.
  *
+ * <p>If a {@link Crane4jScope} is opened in the current thread,
+ * the containers used in the execution will be wrapped by the scope,
+ * and their query results will be memoized until the scope is closed.
+ *
+ * <p>If {@link #disassembleExecutor} is set, the {@link DisassembleOperation}s
+ * declared in the type of {@code targets} are independent of each other,
+ * so they will be processed concurrently by the executor,
+ * and the nested objects collected by each of them will be merged in declaration order.
+ *
+ * <p>When executing with a {@link GroupFilter} (such as the filters created by {@link Grouped#alwaysMatch()}
+ * or {@link Grouped#anyMatch}), the operations passing the filter and the containers used by them
+ * will be cached as {@link ExecutionPlan} for each pair of {@link BeanOperations} and filter,
+ * so that the operations are not filtered and the containers are not looked up again in later executions.
+ * The plans for other filters are never cached, because they are usually created for each call,
+ * and can not be compared with each other.<br />
+ * The containers of plan are looked up when they are first used for assembly,
+ * and will be obtained again if any container is registered after the plan created,
+ * and if the {@link Options} obtains containers by itself, the cached containers will not be used.
+ * The number of cached plans is limited by {@link #maxCachedExecutionPlans},
+ * when the limit is exceeded, the plans of inactive operations will be evicted first.
+ *
  * @author huangchengxing
  * @see AsyncBeanOperationExecutor
  * @see DisorderedBeanOperationExecutor
@@ -63,6 +102,16 @@ import java.util.function.Predicate;
 @Slf4j
 public abstract class AbstractBeanOperationExecutor implements BeanOperationExecutor {
 
+    /**
+     * Default filter of operations, its execution plan is cached by {@link BeanOperations} directly.
+     */
+    private static final Predicate<Grouped> DEFAULT_FILTER = Grouped.alwaysMatch();
+
+    /**
+     * Whether the type of options obtains containers from {@link ContainerManager} directly.
+     */
+    private static final Map<Class<?>, Boolean> CONTAINER_MANAGER_BASED_OPTIONS = new ConcurrentHashMap<>(8);
+
     /**
      * Container manager.
      */
@@ -73,9 +122,9 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
      * In normal cases, this time is unnecessary set to a large value,
      * because the operation is usually active when the {@link #execute} method is called,
      * Unless there is a circular dependency between the operation and the resolution of another object during the parsing process.
+     * The waiting thread will be parked until the operation is activated.
      *
-     * <p>NOTE: This is not a good solution, so in future versions,
-     * we will try to solve this problem in the {@link cn.crane4j.core.parser.BeanOperationParser}.
+     * @see BeanOperations#awaitActive
      */
     @Setter
     public long waitTimeoutMillisecondIfOperationNotActive = 50L;
@@ -86,6 +135,35 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
     @Setter
     public boolean enableExecuteNotActiveOperation = false;
 
+    /**
+     * <p>Executor used to process the independent {@link DisassembleOperation}s concurrently,
+     * if it is null, all {@link DisassembleOperation}s will be processed in the current thread.<br />
+     * The tasks submitted to the executor never wait for other tasks,
+     * so it is safe to use a bounded executor.
+     *
+     * @since 2.3.0
+     */
+    @Nullable
+    @Setter
+    private Executor disassembleExecutor;
+
+    /**
+     * <p>Maximum number of cached execution plans.<br />
+     * It's used to avoid the cache growing unlimitedly
+     * when the {@link BeanOperations} are parsed again and again,
+     * if it is not positive, the execution plans will not be cached.
+     *
+     * @since 2.3.0
+     */
+    @Setter
+    private int maxCachedExecutionPlans = 256;
+
+    /**
+     * Cached execution plans,
+     * the key is {@link BeanOperations} for default filter, otherwise {@link PlanKey}.
+     */
+    private final Map<Object, ExecutionPlan> executionPlans = new ConcurrentHashMap<>(64);
+
     /**
      * Complete operations on all objects in {@code targets} according to the specified {@link BeanOperations} and {@link Options}.
      *
@@ -99,34 +177,43 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
             return;
         }
 
-        // When the following all conditions are met, the operation will be abandoned:
-        // 1. the operation is not active;
-        // 2. the operation is still not active after waiting for a period of time;
-        // 3. the execution of non-active operations is not enabled.
-        if (!operations.isActive() &&
-            !waitForOperationActiveUntilTimeout(operations)
-            && !enableExecuteNotActiveOperation) {
-            log.warn("bean operation of [{}] is still not ready, abort execution of the operation", operations.getSource());
+        // abandon the operation if it is still not active after waiting
+        if (!isReadyForExecution(operations)) {
             return;
         }
+        // containers replaced during execution will not be destroyed until it finished
+        long pinned = containerManager.pinContainers();
+        try {
+            doExecute(targets, operations, options);
+        } finally {
+            containerManager.unpinContainers(pinned);
+        }
+    }
+
+    private void doExecute(Collection<?> targets, BeanOperations operations, Options options) {
         // complete the disassembly first if necessary
-        MultiMap<BeanOperations, Object> collector = MultiMap.linkedListMultimap();
+        MultiMap<BeanOperations, Object> collector = MultiMap.flatMultimap();
         collector.putAll(operations, targets);
         Predicate<? super KeyTriggerOperation> filter = options.getFilter();
         TimerUtil.getExecutionTime(
             log.isDebugEnabled(),
             time -> log.debug("disassemble operations completed in {} ms", time),
-            () -> disassembleIfNecessary(targets, operations, filter, collector)
+            () -> disassemble(targets, operations, filter, collector)
         );
 
         // flattened objects are grouped according to assembly operations, then encapsulated as execution objects
         List<AssembleExecution> executions = new ArrayList<>();
-        collector.asMap().forEach((op, ts) -> op.getAssembleOperations()
-            .stream()
-            .filter(filter)
-            .map(p -> createAssembleExecution(op, p, ts, options))
-            .forEach(executions::add)
-        );
+        boolean useCachedContainers = isContainerManagerBased(options);
+        collector.asMap().forEach((op, ts) -> {
+            ExecutionPlan plan = getExecutionPlan(op, filter);
+            List<AssembleOperation> assembleOperations = plan.getAssembleOperations();
+            for (int i = 0, size = assembleOperations.size(); i < size; i++) {
+                AssembleOperation operation = assembleOperations.get(i);
+                Container<?> container = useCachedContainers ? plan.getContainer(i) : null;
+                executions.add(Objects.isNull(container) ?
+                    createAssembleExecution(op, operation, ts, options) : createAssembleExecution(op, operation, container, ts));
+            }
+        });
 
         // complete assembly operation
         TimerUtil.getExecutionTime(
@@ -150,8 +237,114 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
         String namespace = operation.getContainer();
         Container<?> container = options.getContainer(containerManager, namespace);
         Asserts.isNotNull(container, "container of [{}] not found", namespace);
+        // memoize the query results if the scope is opened in current thread
+        container = Crane4jScope.wrapIfNecessary(container);
         return AssembleExecution.create(beanOperations, operation, container, targets);
     }
+
+    /**
+     * Create a {@link AssembleExecution} with the container cached in {@link ExecutionPlan}.
+     *
+     * @param beanOperations bean operations
+     * @param operation operation
+     * @param container container
+     * @param targets targets
+     * @return {@link AssembleExecution}
+     * @since 2.3.0
+     */
+    protected AssembleExecution createAssembleExecution(
+        BeanOperations beanOperations, AssembleOperation operation, Container<?> container, Collection<Object> targets) {
+        // memoize the query results if the scope is opened in current thread
+        return AssembleExecution.create(beanOperations, operation, Crane4jScope.wrapIfNecessary(container), targets);
+    }
+
+    /**
+     * <p>Get the execution plan of the specified operations and filter.<br />
+     * The plan will be cached only if the operations is active and the filter is a {@link GroupFilter},
+     * and will be created again if any container is registered after it created.
+     *
+     * @param operations operations
+     * @param filter filter
+     * @return execution plan
+     * @since 2.3.0
+     */
+    protected ExecutionPlan getExecutionPlan(BeanOperations operations, Predicate<? super KeyTriggerOperation> filter) {
+        long modificationCount = containerManager.getModificationCount();
+        // other filters may be created for each call, and can not be compared with each other
+        if (!(filter instanceof GroupFilter) || maxCachedExecutionPlans <= 0) {
+            return createExecutionPlan(operations, filter, modificationCount);
+        }
+        Object key = DEFAULT_FILTER.equals(filter) ? operations : new PlanKey(operations, filter);
+        ExecutionPlan plan = executionPlans.get(key);
+        if (Objects.nonNull(plan) && plan.getModificationCount() == modificationCount) {
+            return plan;
+        }
+        plan = createExecutionPlan(operations, filter, modificationCount);
+        // the operations may be changed before it is active
+        if (operations.isActive()) {
+            executionPlans.put(key, plan);
+            if (executionPlans.size() > maxCachedExecutionPlans) {
+                evictExecutionPlans(key);
+            }
+        }
+        return plan;
+    }
+
+    private void evictExecutionPlans(Object current) {
+        // the operations which are not active may be parsed again, so they are evicted first
+        executionPlans.keySet().removeIf(key -> !getOperationsOfKey(key).isActive());
+        Iterator<Object> iterator = executionPlans.keySet().iterator();
+        while (executionPlans.size() > maxCachedExecutionPlans && iterator.hasNext()) {
+            if (!current.equals(iterator.next())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static BeanOperations getOperationsOfKey(Object key) {
+        return key instanceof PlanKey ? ((PlanKey)key).getOperations() : (BeanOperations)key;
+    }
+
+    private ExecutionPlan createExecutionPlan(
+        BeanOperations operations, Predicate<? super KeyTriggerOperation> filter, long modificationCount) {
+        List<DisassembleOperation> disassembleOperations = new ArrayList<>(operations.getDisassembleOperations().size());
+        for (DisassembleOperation operation : operations.getDisassembleOperations()) {
+            if (filter.test(operation)) {
+                disassembleOperations.add(operation);
+            }
+        }
+        List<AssembleOperation> assembleOperations = new ArrayList<>(operations.getAssembleOperations().size());
+        for (AssembleOperation operation : operations.getAssembleOperations()) {
+            if (filter.test(operation)) {
+                assembleOperations.add(operation);
+            }
+        }
+        // the containers can not be cached if the container manager does not support modification count
+        return new ExecutionPlan(
+            disassembleOperations.isEmpty() ? Collections.emptyList() : disassembleOperations,
+            assembleOperations.isEmpty() ? Collections.emptyList() : assembleOperations,
+            new AtomicReferenceArray<>(assembleOperations.size()), modificationCount,
+            modificationCount >= 0 ? this::resolveContainer : null
+        );
+    }
+
+    private Container<?> resolveContainer(AssembleOperation operation) {
+        // the handle resolved when parsing may come from another container manager
+        ContainerHandle handle = operation.getContainerHandle();
+        return Objects.nonNull(handle) && handle.getContainerManager() == containerManager ?
+            handle.getContainer() : containerManager.getContainer(operation.getContainer());
+    }
+
+    private static boolean isContainerManagerBased(Options options) {
+        return CollectionUtils.computeIfAbsent(CONTAINER_MANAGER_BASED_OPTIONS, options.getClass(), type -> {
+            try {
+                return type.getMethod("getContainer", ContainerManager.class, String.class)
+                    .getDeclaringClass() == Options.class;
+            } catch (NoSuchMethodException ex) {
+                return false;
+            }
+        });
+    }
     
     /**
      * <p>Complete the assembly operation.<br />
@@ -174,42 +367,82 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
      */
     protected abstract void executeOperations(List<AssembleExecution> executions, Options options) throws OperationExecuteException;
 
-    private static <T> void disassembleIfNecessary(
+    private <T> void disassemble(
         Collection<T> targets, BeanOperations operations,
         Predicate<? super KeyTriggerOperation> filter, MultiMap<BeanOperations, Object> collector) {
-        Collection<DisassembleOperation> internalOperations = operations.getDisassembleOperations();
-        if (CollectionUtils.isEmpty(internalOperations)) {
+        if (Objects.isNull(disassembleExecutor)) {
+            disassembleIfNecessary(targets, operations, filter, collector);
+            return;
+        }
+        List<DisassembleOperation> branches = getExecutionPlan(operations, filter).getDisassembleOperations();
+        if (branches.size() < 2) {
+            disassembleIfNecessary(targets, operations, filter, collector);
             return;
         }
-        internalOperations.stream()
-            .filter(filter)
-            .forEach(internal -> doDisassembleAndCollect(targets, internal, filter, collector));
+        // each branch collects nested objects into its own collector,
+        // and they are merged in declaration order to keep the result same as sequential processing
+        List<CompletableFuture<MultiMap<BeanOperations, Object>>> tasks = branches.stream()
+            .map(branch -> CompletableFuture.supplyAsync(() -> {
+                MultiMap<BeanOperations, Object> branchCollector = MultiMap.flatMultimap();
+                doDisassembleAndCollect(targets, branch, filter, branchCollector);
+                return branchCollector;
+            }, disassembleExecutor))
+            .collect(Collectors.toList());
+        try {
+            tasks.forEach(task -> collector.putAll(task.join()));
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException)cause : ex;
+        }
+    }
+
+    private <T> void disassembleIfNecessary(
+        Collection<T> targets, BeanOperations operations,
+        Predicate<? super KeyTriggerOperation> filter, MultiMap<BeanOperations, Object> collector) {
+        List<DisassembleOperation> internalOperations = getExecutionPlan(operations, filter).getDisassembleOperations();
+        for (DisassembleOperation internal : internalOperations) {
+            doDisassembleAndCollect(targets, internal, filter, collector);
+        }
     }
 
-    private static <T> void doDisassembleAndCollect(
+    private <T> void doDisassembleAndCollect(
         Collection<T> targets, DisassembleOperation disassembleOperation, Predicate<? super KeyTriggerOperation> filter, MultiMap<BeanOperations, Object> collector) {
         DisassembleOperationHandler handler = disassembleOperation.getDisassembleOperationHandler();
         Collection<?> internalTargets = handler.process(disassembleOperation, targets);
         if (CollectionUtils.isEmpty(internalTargets)) {
             return;
         }
-        BeanOperations internalOperations = disassembleOperation.getInternalBeanOperations(internalTargets);
-        collector.putAll(internalOperations, internalTargets);
-        // recurse process if still have nested objects
-        disassembleIfNecessary(internalTargets, internalOperations, filter, collector);
+        disassembleOperation.groupByInternalBeanOperations(internalTargets).asMap()
+            .forEach((internalOperations, groupedTargets) -> {
+                // nested operations may still be parsing by other thread
+                if (!isReadyForExecution(internalOperations)) {
+                    return;
+                }
+                collector.putAll(internalOperations, groupedTargets);
+                // recurse process if still have nested objects
+                disassembleIfNecessary(groupedTargets, internalOperations, filter, collector);
+            });
     }
 
-    private boolean waitForOperationActiveUntilTimeout(BeanOperations operations) {
-        // rotate training and wait within the specified timeout period
-        long start = System.currentTimeMillis();
-        while (!operations.isActive()) {
-            if (System.currentTimeMillis() - start > waitTimeoutMillisecondIfOperationNotActive) {
-                return false;
-            }
+    private boolean isReadyForExecution(BeanOperations operations) {
+        // When the following all conditions are met, the operation will be abandoned:
+        // 1. the operation is not active;
+        // 2. the operation is still not active after waiting for a period of time;
+        // 3. the execution of non-active operations is not enabled.
+        if (!operations.isActive()
+            && !waitForOperationActiveUntilTimeout(operations)
+            && !enableExecuteNotActiveOperation) {
+            log.warn("bean operation of [{}] is still not ready, abort execution of the operation", operations.getSource());
+            return false;
         }
         return true;
     }
 
+    private boolean waitForOperationActiveUntilTimeout(BeanOperations operations) {
+        // park current thread until the operation is activated or timeout
+        return operations.awaitActive(waitTimeoutMillisecondIfOperationNotActive, TimeUnit.MILLISECONDS);
+    }
+
     /**
      * <p>Try to execute the operation.<br />
      * If necessary, output the log when throwing an exception.
@@ -224,4 +457,76 @@ public abstract class AbstractBeanOperationExecutor implements BeanOperationExec
             e.printStackTrace();
         }
     }
+
+    /**
+     * <p>Execution plan of a {@link BeanOperations} for a filter,
+     * which holds the operations passing the filter and the containers used by them.
+     *
+     * @author huangchengxing
+     * @since 2.3.0
+     */
+    @RequiredArgsConstructor
+    protected static class ExecutionPlan {
+
+        /**
+         * disassemble operations passing the filter
+         */
+        @Getter
+        private final List<DisassembleOperation> disassembleOperations;
+
+        /**
+         * assemble operations passing the filter
+         */
+        @Getter
+        private final List<AssembleOperation> assembleOperations;
+
+        /**
+         * containers of assemble operations, in the same order as {@link #assembleOperations}
+         */
+        private final AtomicReferenceArray<Container<?>> containers;
+
+        /**
+         * modification count of container manager when the plan created
+         */
+        @Getter
+        private final long modificationCount;
+
+        /**
+         * resolver of containers, or null if the containers can not be cached
+         */
+        @Nullable
+        private final Function<AssembleOperation, Container<?>> containerResolver;
+
+        /**
+         * Get the container of the assemble operation at the specified index,
+         * the container is looked up when it is first accessed.
+         *
+         * @param index index of assemble operation
+         * @return container, or null if the container is not cached
+         */
+        @Nullable
+        public Container<?> getContainer(int index) {
+            Container<?> container = containers.get(index);
+            if (Objects.isNull(container) && Objects.nonNull(containerResolver)) {
+                // it is fine if the container is resolved by multiple threads at the same time
+                container = containerResolver.apply(assembleOperations.get(index));
+                containers.set(index, container);
+            }
+            return container;
+        }
+    }
+
+    /**
+     * Key of execution plan for {@link GroupFilter}.
+     *
+     * @author huangchengxing
+     * @since 2.3.0
+     */
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class PlanKey {
+        private final BeanOperations operations;
+        private final Object filter;
+    }
 }
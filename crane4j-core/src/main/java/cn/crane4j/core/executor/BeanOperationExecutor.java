@@ -5,11 +5,13 @@ import cn.crane4j.core.container.ContainerManager;
 import cn.crane4j.core.executor.handler.AssembleOperationHandler;
 import cn.crane4j.core.parser.BeanOperations;
 import cn.crane4j.core.parser.operation.KeyTriggerOperation;
+import cn.crane4j.core.support.Grouped;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 /**
@@ -53,7 +55,7 @@ public interface BeanOperationExecutor {
      * @param operations operations to be performed
      */
     default void execute(Collection<?> targets, BeanOperations operations) {
-        execute(targets, operations, t -> true);
+        execute(targets, operations, Grouped.alwaysMatch());
     }
 
     /**
@@ -93,7 +95,8 @@ public interface BeanOperationExecutor {
             private final Map<String, Container<Object>> dynamicContainers;
             @Override
             public Container<?> getContainer(ContainerManager containerManager, String namespace) {
-                return dynamicContainers.getOrDefault(namespace, containerManager.getContainer(namespace));
+                Container<?> container = dynamicContainers.get(namespace);
+                return Objects.nonNull(container) ? container : containerManager.getContainer(namespace);
             }
         }
     }
@@ -4,19 +4,28 @@ import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.ContainerManager;
 import cn.crane4j.core.exception.OperationExecuteException;
 import cn.crane4j.core.executor.handler.AssembleOperationHandler;
+import cn.crane4j.core.util.FlatMultiMap;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * <p>Synchronization implementation of {@link BeanOperationExecutor}.<br />
  * During execution, the number of calls to {@link Container} will be reduced as much as possible,
  * but the order of operation execution cannot be guaranteed.
  *
+ * <p>All executions of the same container will be grouped by their handler,
+ * and if there are multiple handlers for the same container,
+ * the keys collected by them will be merged and the container will only be queried once,
+ * then the result will be shared by all handlers.
+ *
+ * @see AssembleOperationHandler#prepare
  * @author huangchengxing
  */
 @Slf4j
@@ -52,13 +61,7 @@ public class DisorderedBeanOperationExecutor extends AbstractBeanOperationExecut
      */
     @Override
     protected void executeOperations(List<AssembleExecution> executions, Options options) throws OperationExecuteException {
-        Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> operations = new LinkedHashMap<>();
-        executions.forEach(e -> {
-            Container<?> container = e.getContainer();
-            Map<AssembleOperationHandler, List<AssembleExecution>> he = operations.computeIfAbsent(container, c -> new HashMap<>());
-            List<AssembleExecution> es = he.computeIfAbsent(e.getHandler(), h -> new ArrayList<>());
-            es.add(e);
-        });
+        Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> operations = groupExecutions(executions);
         try {
             doExecuteOperations(operations);
         } catch (Exception e) {
@@ -66,15 +69,78 @@ public class DisorderedBeanOperationExecutor extends AbstractBeanOperationExecut
         }
     }
 
+    /**
+     * <p>Group executions by container and handler.<br />
+     * There are usually only a few containers and handlers in one execution,
+     * so the groups are held by {@link FlatMultiMap} instead of hash maps.
+     *
+     * @param executions executions
+     * @return executions grouped by container and handler
+     */
+    private static Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> groupExecutions(
+        List<AssembleExecution> executions) {
+        FlatMultiMap<Container<?>, AssembleExecution> containerGroups = new FlatMultiMap<>();
+        for (AssembleExecution execution : executions) {
+            containerGroups.put(execution.getContainer(), execution);
+        }
+        Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> groups = new LinkedHashMap<>(
+            containerGroups.size() << 1
+        );
+        containerGroups.asListMap().forEach((container, es) -> {
+            FlatMultiMap<AssembleOperationHandler, AssembleExecution> handlerGroups = new FlatMultiMap<>(1);
+            for (AssembleExecution execution : es) {
+                handlerGroups.put(execution.getHandler(), execution);
+            }
+            groups.put(container, handlerGroups.asListMap());
+        });
+        return groups;
+    }
+
     /**
      * <p>Execute the assembly operation.
      *
      * @param executionGroups grouped assembly operations
      */
     protected void doExecuteOperations(Map<Container<?>, Map<AssembleOperationHandler, List<AssembleExecution>>> executionGroups) {
-        executionGroups.forEach((c, he) ->
-            he.forEach((h, es) ->
-                tryExecute(() -> h.process(c, es))
-        ));
+        executionGroups.forEach((c, he) -> {
+            if (he.size() > 1) {
+                doExecuteOperationsWithMergedQuery(c, he);
+            } else {
+                he.forEach((h, es) -> tryExecute(() -> h.process(c, es)));
+            }
+        });
+    }
+
+    /**
+     * <p>Execute the assembly operations of different handlers for the same container,
+     * the keys of all handlers will be merged and the container will only be queried once.<br />
+     * If the handler does not support preparing operation, it will be executed directly.
+     *
+     * @param container container
+     * @param handlerExecutions executions grouped by handler
+     * @see AssembleOperationHandler#prepare
+     * @since 2.3.0
+     */
+    @SuppressWarnings("unchecked")
+    protected void doExecuteOperationsWithMergedQuery(
+        Container<?> container, Map<AssembleOperationHandler, List<AssembleExecution>> handlerExecutions) {
+        List<AssembleOperationHandler.PendingOperation> pendingOperations = new ArrayList<>(handlerExecutions.size());
+        Set<Object> keys = new HashSet<>();
+        handlerExecutions.forEach((h, es) -> tryExecute(() -> {
+            AssembleOperationHandler.PendingOperation pending = h.prepare(container, es);
+            if (Objects.isNull(pending)) {
+                h.process(container, es);
+                return;
+            }
+            pendingOperations.add(pending);
+            keys.addAll(pending.getKeys());
+        }));
+        if (pendingOperations.isEmpty()) {
+            return;
+        }
+        tryExecute(() -> {
+            Map<Object, Object> sources = (Map<Object, Object>)((Container<Object>)container).get(keys);
+            pendingOperations.forEach(pending -> tryExecute(() -> pending.complete(sources)));
+        });
     }
 }
@@ -9,10 +9,13 @@ import cn.crane4j.core.util.TimerUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * <p>This class serves as the top-level template class
@@ -31,6 +34,9 @@ import java.util.Objects;
  * If the {@link Container} for the current operation is specified, it enters the data source preparation phase:
  * <ul>
  *     <li>
+ *         {@link #getKeysFromEntities}: Collect the keys which need to be queried from the container;
+ *     </li>
+ *     <li>
  *         {@link #getSourcesFromContainer}: Obtains the required data sources based on the objects to be processed;
  *     </li>
  *     <li>
@@ -41,6 +47,12 @@ import java.util.Objects;
  * Finally, if the object has an associated data source object,
  * the {@link #completeMapping} method is called to perform property mapping between them.
  *
+ * <p>When the executor merges the queries of different handlers for the same container,
+ * the data sources are obtained by the executor with the keys returned by {@link #prepare},
+ * and {@link #getSourcesFromContainer} will not be called.<br />
+ * If the subclass overrides {@link #getSourcesFromContainer}, {@link #prepare} always returns {@code null},
+ * so the executor falls back to {@link #process} and the overridden method still takes effect.
+ *
  * <p>The implementation logic of this template class is based on
  * the encapsulation of {@link Target}, which may introduce unnecessary performance overhead.
  *
@@ -50,6 +62,11 @@ import java.util.Objects;
 @Slf4j
 public abstract class AbstractAssembleOperationHandler<T extends AbstractAssembleOperationHandler.Target> implements AssembleOperationHandler {
 
+    /**
+     * whether {@link #getSourcesFromContainer} is overridden by subclass
+     */
+    private final boolean sourcesFromContainerOverridden = isSourcesFromContainerOverridden(getClass());
+
     /**
      * Perform assembly operation.
      *
@@ -72,6 +89,45 @@ public abstract class AbstractAssembleOperationHandler<T extends AbstractAssembl
             return;
         }
         Map<Object, Object> sources = getSourcesFromContainer(container, targets);
+        completeMappingForEntities(targets, sources);
+    }
+
+    /**
+     * <p>Prepare the assembly operation but not access the container,
+     * only collect the keys required by the targets in {@code executions}.<br />
+     * If the container is {@link EmptyContainer},
+     * or {@link #getSourcesFromContainer} is overridden by subclass, return {@code null}.
+     *
+     * @param container container
+     * @param executions operations to be performed
+     * @return pending operation
+     * @since 2.3.0
+     */
+    @Nullable
+    @Override
+    public PendingOperation prepare(Container<?> container, Collection<AssembleExecution> executions) {
+        if (sourcesFromContainerOverridden || container instanceof EmptyContainer || Objects.isNull(container)) {
+            return null;
+        }
+        Collection<T> targets = collectToEntities(executions);
+        Collection<Object> keys = getKeysFromEntities(targets);
+        return new PendingOperation() {
+            @Override
+            public Collection<Object> getKeys() {
+                return keys;
+            }
+            @Override
+            public void complete(Map<Object, Object> sources) {
+                TimerUtil.getExecutionTime(
+                    log.isDebugEnabled(),
+                    time -> log.debug("operation of container [{}] completed in {} ms", container.getNamespace(), time),
+                    () -> completeMappingForEntities(targets, sources)
+                );
+            }
+        };
+    }
+
+    private void completeMappingForEntities(Collection<T> targets, Map<Object, Object> sources) {
         if (CollectionUtils.isEmpty(sources)) {
             return;
         }
@@ -102,14 +158,37 @@ public abstract class AbstractAssembleOperationHandler<T extends AbstractAssembl
         }
     }
 
+    /**
+     * Get the keys which need to be queried from the container.
+     *
+     * @param targets targets
+     * @return keys
+     * @since 2.3.0
+     */
+    protected Collection<Object> getKeysFromEntities(Collection<T> targets) {
+        Set<Object> keys = new HashSet<>();
+        for (T target : targets) {
+            Object key = target.getKey();
+            if (Objects.nonNull(key)) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
     /**
      * Obtain the corresponding data source object from the data source container based on the entity's key value.
      *
      * @param container container
      * @param targets targets
      * @return source objects
+     * @see #getKeysFromEntities
      */
-    protected abstract Map<Object, Object> getSourcesFromContainer(Container<?> container, Collection<T> targets);
+    @SuppressWarnings("unchecked")
+    protected Map<Object, Object> getSourcesFromContainer(Container<?> container, Collection<T> targets) {
+        Collection<Object> keys = getKeysFromEntities(targets);
+        return (Map<Object, Object>)((Container<Object>)container).get(keys);
+    }
 
     /**
      * Get the data source object associated with the target object.
@@ -128,6 +207,18 @@ public abstract class AbstractAssembleOperationHandler<T extends AbstractAssembl
      */
     protected abstract void completeMapping(Object source, T target);
 
+    private static boolean isSourcesFromContainerOverridden(Class<?> type) {
+        for (Class<?> c = type; c != AbstractAssembleOperationHandler.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("getSourcesFromContainer", Container.class, Collection.class);
+                return true;
+            } catch (NoSuchMethodException ex) {
+                // not declared in this class, check its superclass
+            }
+        }
+        return false;
+    }
+
     /**
      * Target object to be processed.
      */
@@ -3,7 +3,10 @@ package cn.crane4j.core.executor.handler;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.executor.AssembleExecution;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * <p>Handler of assembly operation.<br />
@@ -31,4 +34,49 @@ public interface AssembleOperationHandler {
      * @param executions operations to be performed
      */
     void process(Container<?> container, Collection<AssembleExecution> executions);
+
+    /**
+     * <p>Prepare the assembly operation but not access the container,
+     * only collect the keys required by the targets in {@code executions}.<br />
+     * It allows the executor to merge the queries of different handlers
+     * for the same container into one, and complete all of them with the same data sources.
+     *
+     * <p>If the handler does not support to be completed in this way, return {@code null},
+     * then the executor will call {@link #process} directly.
+     *
+     * @param container container
+     * @param executions operations to be performed
+     * @return pending operation, or {@code null} if the handler does not support
+     * @see PendingOperation
+     * @since 2.3.0
+     */
+    @Nullable
+    default PendingOperation prepare(Container<?> container, Collection<AssembleExecution> executions) {
+        return null;
+    }
+
+    /**
+     * An assembly operation which has collected the keys,
+     * and waiting for the data sources to complete.
+     *
+     * @author huangchengxing
+     * @see #prepare
+     * @since 2.3.0
+     */
+    interface PendingOperation {
+
+        /**
+         * Get the keys which need to be queried from the container.
+         *
+         * @return keys
+         */
+        Collection<Object> getKeys();
+
+        /**
+         * Complete the assembly operation with the data sources grouped by key value.
+         *
+         * @param sources data sources grouped by key value
+         */
+        void complete(Map<Object, Object> sources);
+    }
 }
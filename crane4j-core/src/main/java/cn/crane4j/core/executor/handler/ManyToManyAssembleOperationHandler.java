@@ -1,6 +1,5 @@
 package cn.crane4j.core.executor.handler;
 
-import cn.crane4j.core.container.Container;
 import cn.crane4j.core.executor.AssembleExecution;
 import cn.crane4j.core.support.converter.ConverterManager;
 import cn.crane4j.core.support.reflect.PropertyOperator;
@@ -13,7 +12,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -80,21 +78,18 @@ public class ManyToManyAssembleOperationHandler extends OneToManyAssembleOperati
     }
 
     /**
-     * Obtain the corresponding data source object from the data source container based on the entity's key value.
+     * Get the keys which need to be queried from the container.
      *
-     * @param container container
-     * @param targets   targets
-     * @return source objects
+     * @param targets targets
+     * @return keys
      */
-    @SuppressWarnings("unchecked")
     @Override
-    protected Map<Object, Object> getSourcesFromContainer(Container<?> container, Collection<Target> targets) {
-        Set<Object> keys = targets.stream()
+    protected Collection<Object> getKeysFromEntities(Collection<Target> targets) {
+        return targets.stream()
             .map(Target::getKey)
             .map(k -> (Collection<?>)k)
             .flatMap(Collection::stream)
             .collect(Collectors.toSet());
-        return (Map<Object, Object>)((Container<Object>)container).get(keys);
     }
 
     /**
@@ -1,6 +1,5 @@
 package cn.crane4j.core.executor.handler;
 
-import cn.crane4j.core.container.Container;
 import cn.crane4j.core.executor.AssembleExecution;
 import cn.crane4j.core.parser.PropertyMapping;
 import cn.crane4j.core.parser.handler.strategy.PropertyMappingStrategy;
@@ -17,7 +16,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 
 /**
  * An implementation of {@link AssembleOperationHandler}
@@ -88,23 +86,6 @@ public class OneToOneAssembleOperationHandler
         return new Target(execution, origin, keyValue);
     }
 
-    /**
-     * Obtain the corresponding data source object from the data source container based on the entity's key value.
-     *
-     * @param container container
-     * @param targets   targets
-     * @return source objects
-     */
-    @SuppressWarnings("unchecked")
-    @Override
-    protected Map<Object, Object> getSourcesFromContainer(Container<?> container, Collection<Target> targets) {
-        Set<Object> keys = targets.stream()
-            .map(Target::getKey)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet());
-        return (Map<Object, Object>)((Container<Object>)container).get(keys);
-    }
-
     /**
      * Get the data source object associated with the target object.
      *
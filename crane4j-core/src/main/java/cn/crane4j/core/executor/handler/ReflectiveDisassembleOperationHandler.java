@@ -10,14 +10,15 @@ import lombok.RequiredArgsConstructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.RandomAccess;
 
 /**
- * A basic {@link DisassembleOperationHandler} implementation based on {@link PropertyOperator}.
+ * <p>A basic {@link DisassembleOperationHandler} implementation based on {@link PropertyOperator}.<br />
+ * The nested collections and arrays are flattened in place with fast paths
+ * for {@link RandomAccess} lists and object arrays,
+ * so no intermediate collection is created for them.
  *
  * @author huangchengxing
  */
@@ -40,24 +41,58 @@ public class ReflectiveDisassembleOperationHandler implements DisassembleOperati
         }
         MethodInvoker getter = propertyOperator.findGetter(operation.getSourceType(), operation.getKey());
         Asserts.isNotNull(getter, "cannot find getter for [{}] on [{}]", operation.getKey(), operation.getSourceType());
-        Deque<Object> deque = targets.stream()
-            .filter(Objects::nonNull)
-            .map(getter::invoke)
-            .collect(Collectors.toCollection(LinkedList::new));
-
-        List<Object> result = new ArrayList<>();
-        while (!deque.isEmpty()) {
-            Object item = deque.removeFirst();
-            if (Objects.isNull(item)) {
-                continue;
+        List<Object> result = new ArrayList<>(targets.size());
+        if (targets instanceof List && targets instanceof RandomAccess) {
+            List<?> targetList = (List<?>)targets;
+            for (int i = 0, size = targetList.size(); i < size; i++) {
+                collectNestedObjects(getter, targetList.get(i), result);
             }
-            // still is collection, continue
-            if (item instanceof Collection || item.getClass().isArray()) {
-                deque.addAll(CollectionUtils.adaptObjectToCollection(item));
-            } else {
-                result.add(item);
+        } else {
+            for (Object target : targets) {
+                collectNestedObjects(getter, target, result);
             }
         }
         return result;
     }
+
+    private static void collectNestedObjects(MethodInvoker getter, Object target, List<Object> result) {
+        if (Objects.nonNull(target)) {
+            flatten(getter.invoke(target), result);
+        }
+    }
+
+    /**
+     * Add the item to result, if the item is a collection or an array,
+     * add its elements recursively.
+     *
+     * @param item item
+     * @param result result
+     */
+    private static void flatten(Object item, List<Object> result) {
+        if (item instanceof Object[]) {
+            for (Object element : (Object[])item) {
+                addOrFlatten(element, result);
+            }
+        } else if (item instanceof List && item instanceof RandomAccess) {
+            List<?> list = (List<?>)item;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                addOrFlatten(list.get(i), result);
+            }
+        } else if (item instanceof Collection) {
+            for (Object element : (Collection<?>)item) {
+                addOrFlatten(element, result);
+            }
+        } else if (Objects.nonNull(item)) {
+            result.add(item);
+        }
+    }
+
+    private static void addOrFlatten(Object element, List<Object> result) {
+        // most of the elements are not nested, so add them directly instead of recursion
+        if (element instanceof Object[] || element instanceof Collection) {
+            flatten(element, result);
+        } else if (Objects.nonNull(element)) {
+            result.add(element);
+        }
+    }
 }
@@ -10,6 +10,8 @@ import java.lang.reflect.AnnotatedElement;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * <p>The configuration for a JavaBean operation.
@@ -26,7 +28,8 @@ import java.util.List;
  * such as when an attribute type that needs to be disassembled in an object is another object,
  * the object operation configuration instance may still be in recursive resolution when obtained.
  * Therefore, it is essential to ensure that
- * the configuration object has completed resolution through {@link #isActive} before use.
+ * the configuration object has completed resolution through {@link #isActive} before use,
+ * or wait for it to be activated through {@link #awaitActive}.
  *
  * @author huangchengxing
  * @see AssembleOperation
@@ -95,6 +98,33 @@ public interface BeanOperations {
      * @param active active state
      */
     void setActive(boolean active);
+
+    /**
+     * <p>Wait until the current operation configuration is active or the timeout is reached.<br />
+     * The default implementation checks the state with a short park interval,
+     * implementations which can publish their activation should override it,
+     * so that the waiting thread can be parked until it is activated.
+     *
+     * @param timeout maximum time to wait
+     * @param unit time unit of the {@code timeout}
+     * @return true if configuration is active, false if the timeout is reached
+     * @see SimpleBeanOperations#awaitActive
+     * @since 2.3.0
+     */
+    default boolean awaitActive(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isActive()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0L) {
+                return false;
+            }
+            LockSupport.parkNanos(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(1L)));
+            if (Thread.currentThread().isInterrupted()) {
+                return isActive();
+            }
+        }
+        return true;
+    }
     
     /**
      * Whether the current operation is empty.
@@ -0,0 +1,143 @@
+package cn.crane4j.core.parser;
+
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
+import java.lang.reflect.Parameter;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>Index of types which declare operations, it generated by
+ * {@code cn.crane4j.annotation.processor.BeanOperationsIndexProcessor} at compile time.<br />
+ * When the index is loaded, the {@link TypeHierarchyBeanOperationParser} can skip
+ * the reflective resolution of types which are not in the index,
+ * such as the classes without any annotation in the type hierarchy of the parsed type.
+ * It's only a negative filter, the types in the index are still resolved by reflection when they are first parsed.
+ *
+ * <p><b>NOTE:</b>The index only contains the types compiled with the annotation processor,
+ * and only the annotations in package {@code cn.crane4j.annotation}, the annotations meta-annotated by them,
+ * and the annotations in packages specified by the option of processor are recognized,
+ * so if the index is enabled, all types which declare operations must be compiled with it,
+ * and the annotations resolved by custom handlers must be specified in processor option,
+ * otherwise their operations will be ignored.
+ *
+ * @author huangchengxing
+ * @see TypeHierarchyBeanOperationParser#setOperationsIndex
+ * @since 2.3.0
+ */
+@Slf4j
+public class BeanOperationsIndex {
+
+    /**
+     * Location of the index.
+     */
+    public static final String INDEX_LOCATION = "META-INF/crane4j/bean-operations.index";
+
+    /**
+     * Binary names of indexed types.
+     */
+    private final Set<String> indexedTypes;
+
+    /**
+     * Create a {@link BeanOperationsIndex} instance.
+     *
+     * @param indexedTypes binary names of indexed types
+     */
+    public BeanOperationsIndex(Set<String> indexedTypes) {
+        this.indexedTypes = Collections.unmodifiableSet(indexedTypes);
+    }
+
+    /**
+     * Load all indexes from the specified class loader.
+     *
+     * @param classLoader class loader, if null, use default class loader
+     * @return index, if no index found, return an empty index
+     */
+    public static BeanOperationsIndex load(@Nullable ClassLoader classLoader) {
+        ClassLoader loader = Objects.isNull(classLoader) ? Thread.currentThread().getContextClassLoader() : classLoader;
+        loader = Objects.isNull(loader) ? BeanOperationsIndex.class.getClassLoader() : loader;
+        Set<String> types = new HashSet<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(INDEX_LOCATION);
+            while (resources.hasMoreElements()) {
+                readIndex(resources.nextElement(), types);
+            }
+        } catch (IOException e) {
+            log.warn("cannot load bean operations index from [{}]: {}", INDEX_LOCATION, e.getMessage());
+        }
+        log.info("load {} types from bean operations index", types.size());
+        return new BeanOperationsIndex(types);
+    }
+
+    private static void readIndex(URL url, Set<String> types) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while (Objects.nonNull(line = reader.readLine())) {
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    types.add(line);
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether the index is empty.
+     *
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return indexedTypes.isEmpty();
+    }
+
+    /**
+     * Get binary names of all indexed types.
+     *
+     * @return binary names of indexed types
+     */
+    public Set<String> getIndexedTypes() {
+        return indexedTypes;
+    }
+
+    /**
+     * Whether the type is in the index.
+     *
+     * @param type type
+     * @return boolean
+     */
+    public boolean contains(Class<?> type) {
+        return indexedTypes.contains(type.getName());
+    }
+
+    /**
+     * <p>Whether the element may declare operations.<br />
+     * If the element is a type, check whether it is in the index,
+     * if the element is a member or parameter, check whether its declaring type is in the index,
+     * otherwise always return true.
+     *
+     * @param element element
+     * @return boolean
+     */
+    public boolean mayDeclareOperations(AnnotatedElement element) {
+        Class<?> type = null;
+        if (element instanceof Class) {
+            type = (Class<?>) element;
+        } else if (element instanceof Member) {
+            type = ((Member) element).getDeclaringClass();
+        } else if (element instanceof Parameter) {
+            type = ((Parameter) element).getDeclaringExecutable().getDeclaringClass();
+        }
+        return Objects.isNull(type) || contains(type);
+    }
+}
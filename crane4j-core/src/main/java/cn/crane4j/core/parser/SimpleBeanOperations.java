@@ -2,14 +2,16 @@ package cn.crane4j.core.parser;
 
 import cn.crane4j.core.parser.operation.AssembleOperation;
 import cn.crane4j.core.parser.operation.DisassembleOperation;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 
 import java.lang.reflect.AnnotatedElement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Simple implementation of {@link BeanOperations}.
@@ -21,12 +23,55 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class SimpleBeanOperations implements BeanOperations {
 
-    @Setter
-    private boolean active = false;
+    private volatile boolean active = false;
     private final AnnotatedElement source;
     private final List<AssembleOperation> assembleOperations = new ArrayList<>();
     private final List<DisassembleOperation> disassembleOperations = new ArrayList<>();
 
+    /**
+     * latch which will be released when the configuration is activated.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile CountDownLatch activeLatch = new CountDownLatch(1);
+
+    /**
+     * <p>Set the current operation configuration active state.<br />
+     * If the configuration is activated, all threads waiting in {@link #awaitActive} will be released.
+     *
+     * @param active active state
+     */
+    @Override
+    public void setActive(boolean active) {
+        if (active) {
+            this.active = true;
+            activeLatch.countDown();
+        } else if (this.active) {
+            activeLatch = new CountDownLatch(1);
+            this.active = false;
+        }
+    }
+
+    /**
+     * Wait until the current operation configuration is active or the timeout is reached,
+     * the waiting thread will be parked until the configuration is activated.
+     *
+     * @param timeout maximum time to wait
+     * @param unit time unit of the {@code timeout}
+     * @return true if configuration is active, false if the timeout is reached
+     */
+    @Override
+    public boolean awaitActive(long timeout, TimeUnit unit) {
+        if (active) {
+            return true;
+        }
+        try {
+            return activeLatch.await(timeout, unit) || active;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return active;
+        }
+    }
+
     /**
      * Add assembly operation. <br />
      * If the operation has been added, it will be deleted before adding.
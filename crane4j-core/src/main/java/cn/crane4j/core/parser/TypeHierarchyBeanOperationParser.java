@@ -7,19 +7,22 @@ import cn.crane4j.core.support.Crane4jGlobalSorter;
 import cn.crane4j.core.util.CollectionUtils;
 import cn.crane4j.core.util.ReflectUtils;
 import cn.crane4j.core.util.TimerUtil;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -33,6 +36,12 @@ import java.util.concurrent.ConcurrentHashMap;
  * corresponding to the {@link AnnotatedElement} will be cached,
  * and the cache will be used preferentially for the next access.
  *
+ * <p>Different elements can be parsed in parallel by different threads,
+ * if an element is being parsed by another thread, the caller will wait for it to complete.
+ * However, if the element is referenced during the parsing process of the current thread
+ * (for example, it is referenced by itself or by its nested elements),
+ * the early reference of the operations which still not active will be returned to avoid deadlock.
+ *
  * <p>When parsing element, if it is a:
  * <ul>
  *     <li>{@link Class}: it will check all parent classes and interfaces in its hierarchy;</li>
@@ -56,9 +65,19 @@ import java.util.concurrent.ConcurrentHashMap;
 public class TypeHierarchyBeanOperationParser implements BeanOperationParser {
 
     /**
-     * temp cache for operations of element that currently in parsing
+     * depth of parsing by this parser in current thread
+     */
+    private final ThreadLocal<Integer> parsingDepth = new ThreadLocal<>();
+
+    /**
+     * temp cache for tasks of element that currently in parsing
+     */
+    private final Map<AnnotatedElement, ParsingTask> parsingTasks = new ConcurrentHashMap<>(8);
+
+    /**
+     * temp cache for early references of element that currently in parsing
      */
-    protected final Map<AnnotatedElement, BeanOperations> currentlyInParsing = new LinkedHashMap<>(8);
+    protected final Map<AnnotatedElement, BeanOperations> currentlyInParsing = new ConcurrentHashMap<>(8);
     
     /**
      * temp cache for operations of resolved element where in type hierarchy.
@@ -83,6 +102,36 @@ public class TypeHierarchyBeanOperationParser implements BeanOperationParser {
     @Setter
     protected boolean enableHierarchyCache = false;
 
+    /**
+     * <p>Index of types which declare operations.<br />
+     * If not null, the element whose declaring type is not in the index
+     * will be resolved to empty operations directly without reflection,
+     * and the element whose declaring type is in the index is still resolved by reflection.
+     *
+     * @see BeanOperationsIndex
+     * @since 2.3.0
+     */
+    @Nullable
+    protected BeanOperationsIndex operationsIndex;
+
+    /**
+     * <p>Set the index of types which declare operations.<br />
+     * If the index is empty, it usually means that no index is generated,
+     * so it will be ignored to avoid all operations being dropped.
+     *
+     * @param operationsIndex index of types which declare operations
+     * @see BeanOperationsIndex
+     * @since 2.3.0
+     */
+    public void setOperationsIndex(@Nullable BeanOperationsIndex operationsIndex) {
+        if (Objects.nonNull(operationsIndex) && operationsIndex.isEmpty()) {
+            log.warn("bean operations index is empty, it will be ignored, please check whether [{}] is generated", BeanOperationsIndex.INDEX_LOCATION);
+            this.operationsIndex = null;
+            return;
+        }
+        this.operationsIndex = operationsIndex;
+    }
+
     /**
      * Add bean operations resolvers.
      *
@@ -119,44 +168,79 @@ public class TypeHierarchyBeanOperationParser implements BeanOperationParser {
     }
 
     private BeanOperations parseIfNecessary(AnnotatedElement element) {
+        // target is parsed ?
         BeanOperations result = resolvedElements.get(element);
-        if (Objects.isNull(result)) {
-            synchronized (this) {
-                // target is parsed ?
-                result = resolvedElements.get(element);
-                if (Objects.isNull(result)) {
-                    // target is in parsing?
-                    result = currentlyInParsing.get(element);
-                    // target need parse, do it!
-                    if (Objects.isNull(result)) {
-                        result = TimerUtil.getExecutionTime(
-                            log.isDebugEnabled(),
-                            time -> log.debug("parsing of element [{}] completed in {} ms", element, time),
-                            () -> doParse(element)
-                        );
-                    } else {
-                        log.debug("target [{}] is in parsing, get early cache", element);
-                        // FIXME： If the current configuration is not yet activated,
-                        //  it may not be appropriate to directly return it to the caller.
-                        //  A better approach is to have the caller thread
-                        //  also assist in parsing the configuration,
-                        //  just like when expanding ConcurrentHashMap
-                    }
-                }
-            }
+        if (Objects.nonNull(result)) {
+            return result;
+        }
+        // target is in parsing?
+        ParsingTask task = new ParsingTask(element);
+        ParsingTask existing = parsingTasks.putIfAbsent(element, task);
+        // target need parse, do it!
+        if (Objects.isNull(existing)) {
+            return TimerUtil.getExecutionTime(
+                log.isDebugEnabled(),
+                time -> log.debug("parsing of element [{}] completed in {} ms", element, time),
+                () -> doParse(element, task)
+            );
+        }
+        // the current thread is parsing other elements, it may be referenced by itself or its nested elements,
+        // or there is a circular reference between the elements parsing by different threads,
+        // so get the early cache to avoid deadlock, the executor will wait until it is activated.
+        // see BeanOperations#awaitActive
+        if (isParsingInCurrentThread()) {
+            log.debug("target [{}] is in parsing, get early cache", element);
+            return existing.getOperations();
+        }
+        // target is parsing by other thread, wait for it
+        log.debug("target [{}] is in parsing by other thread, wait for it", element);
+        return existing.getFuture().join();
+    }
+
+    private BeanOperations doParse(AnnotatedElement element, ParsingTask task) {
+        // the element may be parsed by other thread before the task is registered
+        BeanOperations result = resolvedElements.get(element);
+        if (Objects.nonNull(result)) {
+            parsingTasks.remove(element, task);
+            task.getFuture().complete(result);
+            return result;
+        }
+        result = task.getOperations();
+        try {
+            doParseInCurrentThread(result);
+            result.setActive(true);
+            resolvedElements.put(element, result);
+            task.getFuture().complete(result);
+            return result;
+        } catch (Exception e) {
+            // the early reference may have been referenced by other operations,
+            // activate it to avoid the executors waiting for it until timeout every time
+            log.warn("failed to parse element [{}], the early reference of it will be activated with incomplete operations", element);
+            result.setActive(true);
+            task.getFuture().completeExceptionally(e);
+            throw e;
+        } finally {
+            currentlyInParsing.remove(element, result);
+            parsingTasks.remove(element, task);
         }
-        return result;
     }
 
-    private BeanOperations doParse(AnnotatedElement element) {
-        BeanOperations result;
-        result = createBeanOperations(element);
-        result.setActive(false);
-        currentlyInParsing.put(element, result);
-        doParse(result);
-        resolvedElements.put(element, currentlyInParsing.remove(element));
-        result.setActive(true);
-        return result;
+    private boolean isParsingInCurrentThread() {
+        return Objects.nonNull(parsingDepth.get());
+    }
+
+    private void doParseInCurrentThread(BeanOperations root) {
+        Integer depth = parsingDepth.get();
+        parsingDepth.set(Objects.isNull(depth) ? 1 : depth + 1);
+        try {
+            doParse(root);
+        } finally {
+            if (Objects.isNull(depth)) {
+                parsingDepth.remove();
+            } else {
+                parsingDepth.set(depth);
+            }
+        }
     }
 
     private void doParse(BeanOperations root) {
@@ -263,8 +347,48 @@ public class TypeHierarchyBeanOperationParser implements BeanOperationParser {
         if (ReflectUtils.isJdkElement(source)) {
             return BeanOperations.empty();
         }
+        if (Objects.nonNull(operationsIndex) && !operationsIndex.mayDeclareOperations(source)) {
+            return BeanOperations.empty();
+        }
         BeanOperations operations = createBeanOperations(source);
         operationAnnotationHandlers.forEach(resolver -> resolver.resolve(this, operations));
         return operations;
     }
+
+    /**
+     * Task for parsing the element,
+     * it holds the early cache of the operations and the future of the result.
+     *
+     * @author huangchengxing
+     */
+    @RequiredArgsConstructor
+    private class ParsingTask {
+
+        private final AnnotatedElement element;
+        @Getter
+        private final CompletableFuture<BeanOperations> future = new CompletableFuture<>();
+        private volatile BeanOperations operations;
+
+        /**
+         * Get the early cache of the operations,
+         * it is created when first accessed, so it is only created for the registered task.
+         *
+         * @return operations
+         */
+        public BeanOperations getOperations() {
+            BeanOperations result = operations;
+            if (Objects.isNull(result)) {
+                synchronized (this) {
+                    result = operations;
+                    if (Objects.isNull(result)) {
+                        result = createBeanOperations(element);
+                        result.setActive(false);
+                        currentlyInParsing.put(element, result);
+                        operations = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
 }
@@ -189,6 +189,8 @@ public abstract class AbstractAssembleAnnotationHandler<T extends Annotation> im
         operation.getGroups().addAll(groups);
         operation.setPropertyMappingStrategy(propertyMappingStrategy);
         operation.setKeyType(keyType);
+        // resolve the namespace of container in advance
+        operation.setContainerHandle(globalConfiguration.getContainerHandle(operation.getContainer()));
         return operation;
     }
 
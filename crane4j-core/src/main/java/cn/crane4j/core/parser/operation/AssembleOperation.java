@@ -1,6 +1,7 @@
 package cn.crane4j.core.parser.operation;
 
 import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerHandle;
 import cn.crane4j.core.executor.handler.AssembleOperationHandler;
 import cn.crane4j.core.parser.PropertyMapping;
 import cn.crane4j.core.parser.handler.strategy.PropertyMappingStrategy;
@@ -66,6 +67,29 @@ public interface AssembleOperation extends KeyTriggerOperation {
      */
     String getContainer();
 
+    /**
+     * Get the handle of container which is resolved when parsing.
+     *
+     * @return handle of container, or null if not resolved
+     * @see cn.crane4j.core.container.ContainerManager#getContainerHandle
+     * @since 2.3.0
+     */
+    @Nullable
+    default ContainerHandle getContainerHandle() {
+        return null;
+    }
+
+    /**
+     * Set the handle of container, which namespace must be same as {@link #getContainer()}.<br />
+     * If the implementation does not support it, the handle will be ignored.
+     *
+     * @param containerHandle handle of container
+     * @since 2.3.0
+     */
+    default void setContainerHandle(@Nullable ContainerHandle containerHandle) {
+        // do nothing
+    }
+
     /**
      * Get operation handler.
      *
@@ -2,8 +2,11 @@ package cn.crane4j.core.parser.operation;
 
 import cn.crane4j.core.executor.handler.DisassembleOperationHandler;
 import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.util.MultiMap;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Collection;
+
 /**
  * <p>The disassembly operation triggered by the specified key,
  * it's means that a set of process configuration information of
@@ -32,6 +35,21 @@ public interface DisassembleOperation extends KeyTriggerOperation {
     @NonNull
     BeanOperations getInternalBeanOperations(Object internalBean);
 
+    /**
+     * <p>Group the nested objects by their operation configuration.<br />
+     * By default, all nested objects are grouped by the operation configuration
+     * obtained from {@link #getInternalBeanOperations} for the whole collection.
+     *
+     * @param internalBeans nested objects
+     * @return nested objects grouped by operation configuration
+     * @since 2.3.0
+     */
+    default MultiMap<BeanOperations, Object> groupByInternalBeanOperations(Collection<?> internalBeans) {
+        MultiMap<BeanOperations, Object> groups = MultiMap.flatMultimap();
+        groups.putAll(getInternalBeanOperations(internalBeans), internalBeans);
+        return groups;
+    }
+
     /**
      * Get the handler of the current disassembly operation.
      *
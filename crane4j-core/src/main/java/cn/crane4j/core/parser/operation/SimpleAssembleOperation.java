@@ -1,5 +1,6 @@
 package cn.crane4j.core.parser.operation;
 
+import cn.crane4j.core.container.ContainerHandle;
 import cn.crane4j.core.executor.handler.AssembleOperationHandler;
 import cn.crane4j.core.parser.PropertyMapping;
 import cn.crane4j.core.parser.handler.strategy.OverwriteNotNullMappingStrategy;
@@ -26,6 +27,9 @@ public class SimpleAssembleOperation extends SimpleKeyTriggerOperation implement
     @Setter
     @Nullable
     private Class<?> keyType;
+    @Setter
+    @Nullable
+    private ContainerHandle containerHandle;
 
     public SimpleAssembleOperation(
         String key, int sort,
@@ -3,18 +3,31 @@ package cn.crane4j.core.parser.operation;
 import cn.crane4j.core.executor.handler.DisassembleOperationHandler;
 import cn.crane4j.core.parser.BeanOperationParser;
 import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.support.SimpleTypeResolver;
 import cn.crane4j.core.support.TypeResolver;
+import cn.crane4j.core.util.MultiMap;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>The {@link DisassembleOperation} implementation that
  * express the disassemble operation of data from dynamic type.<br />
  * It is usually used to process the disassemble operation for unknown types or generic types.
  *
+ * <p>When grouping nested objects by {@link #groupByInternalBeanOperations},
+ * the type of each nested object is resolved by the {@link TypeResolver},
+ * so the polymorphic nested objects can be processed correctly,
+ * and the operation configuration is cached by the resolved type.<br />
+ * If the {@link TypeResolver} is {@link SimpleTypeResolver}, which type only depends on the runtime class of object,
+ * the runtime class is used as the resolved type directly.
+ *
  * @author huangchengxing
  * @see TypeResolver
  */
@@ -27,6 +40,12 @@ public class TypeDynamitedDisassembleOperation extends SimpleKeyTriggerOperation
     private final DisassembleOperationHandler disassembleOperationHandler;
     private final BeanOperationParser beanOperationParser;
     private final TypeResolver typeResolver;
+    private final Map<Class<?>, BeanOperations> resolvedOperations = new ConcurrentHashMap<>(8);
+
+    /**
+     * whether the resolved type only depends on the runtime class of object
+     */
+    private final boolean resolveByRuntimeType;
 
     public TypeDynamitedDisassembleOperation(
         String key, int sort, Class<?> sourceType,
@@ -37,6 +56,7 @@ public class TypeDynamitedDisassembleOperation extends SimpleKeyTriggerOperation
         this.disassembleOperationHandler = disassembleOperationHandler;
         this.beanOperationParser = beanOperationParser;
         this.typeResolver = typeResolver;
+        this.resolveByRuntimeType = Objects.nonNull(typeResolver) && typeResolver instanceof SimpleTypeResolver;
     }
 
     public TypeDynamitedDisassembleOperation(
@@ -63,4 +83,59 @@ public class TypeDynamitedDisassembleOperation extends SimpleKeyTriggerOperation
         }
         return beanOperationParser.parse(internalType);
     }
+
+    /**
+     * <p>Group the nested objects by their actual types,
+     * and get the operation configuration for each type.<br />
+     * The operation configurations are cached by the types resolved by {@link #typeResolver}.
+     *
+     * @param internalBeans nested objects
+     * @return nested objects grouped by operation configuration
+     * @since 2.3.0
+     */
+    @Override
+    public MultiMap<BeanOperations, Object> groupByInternalBeanOperations(Collection<?> internalBeans) {
+        MultiMap<BeanOperations, Object> groups = MultiMap.flatMultimap();
+        Class<?> lastType = null;
+        BeanOperations lastOperations = null;
+        for (Object internalBean : internalBeans) {
+            if (Objects.isNull(internalBean)) {
+                continue;
+            }
+            // the type may depend on the state of object
+            Class<?> type = isResolvedByRuntimeType(internalBean) ?
+                internalBean.getClass() : typeResolver.resolve(internalBean);
+            if (Objects.isNull(type)) {
+                log.warn("cannot resolve disassemble target type for object: [{}]", internalBean);
+                groups.put(BeanOperations.empty(), internalBean);
+                continue;
+            }
+            // nested objects of the same type are usually adjacent
+            if (type != lastType) {
+                lastType = type;
+                lastOperations = getCachedInternalBeanOperations(type);
+            }
+            groups.put(lastOperations, internalBean);
+        }
+        return groups;
+    }
+
+    private boolean isResolvedByRuntimeType(Object internalBean) {
+        // the type of collection or array is resolved from its elements
+        return resolveByRuntimeType && !(internalBean instanceof Iterable)
+            && !(internalBean instanceof Iterator) && !internalBean.getClass().isArray();
+    }
+
+    private BeanOperations getCachedInternalBeanOperations(Class<?> type) {
+        BeanOperations operations = resolvedOperations.get(type);
+        if (Objects.nonNull(operations)) {
+            return operations;
+        }
+        operations = beanOperationParser.parse(type);
+        // do not cache the early reference of operations which is still in parsing
+        if (operations.isActive()) {
+            resolvedOperations.put(type, operations);
+        }
+        return operations;
+    }
 }
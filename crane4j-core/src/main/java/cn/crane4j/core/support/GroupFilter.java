@@ -0,0 +1,127 @@
+package cn.crane4j.core.support;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * <p>A {@link Predicate} which tests whether the {@link Grouped} object matches the specified groups.<br />
+ * Unlike lambda, the filters with the same mode and groups are equal,
+ * so it can be used as a part of key of cache, such as the execution plan of operations.
+ *
+ * @author huangchengxing
+ * @see Grouped#allMatch
+ * @see Grouped#anyMatch
+ * @see Grouped#noneMatch
+ * @since 2.3.0
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GroupFilter implements Predicate<Grouped> {
+
+    /**
+     * match mode
+     */
+    private final Mode mode;
+
+    /**
+     * groups to match
+     */
+    private final Set<String> groups;
+
+    /**
+     * Create a {@link GroupFilter} instance.
+     *
+     * @param mode match mode
+     * @param groups groups to match
+     * @return filter
+     */
+    public static GroupFilter of(Mode mode, String... groups) {
+        Objects.requireNonNull(mode, "mode must not null");
+        return new GroupFilter(mode, Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(groups))));
+    }
+
+    /**
+     * Whether the object matches the groups.
+     *
+     * @param grouped grouped object
+     * @return boolean
+     */
+    @Override
+    public boolean test(Grouped grouped) {
+        switch (mode) {
+            case ALL_MATCH:
+                for (String group : groups) {
+                    if (!grouped.isBelong(group)) {
+                        return false;
+                    }
+                }
+                return true;
+            case ANY_MATCH:
+                for (String group : groups) {
+                    if (grouped.isBelong(group)) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                for (String group : groups) {
+                    if (grouped.isBelong(group)) {
+                        return false;
+                    }
+                }
+                return true;
+        }
+    }
+
+    /**
+     * Get a filter that represents the logical negation of this filter,
+     * if the negation can be expressed by another mode, the returned filter is also a {@link GroupFilter}.
+     *
+     * @return negated filter
+     */
+    @Override
+    public Predicate<Grouped> negate() {
+        if (mode == Mode.ANY_MATCH) {
+            return new GroupFilter(Mode.NONE_MATCH, groups);
+        }
+        if (mode == Mode.NONE_MATCH) {
+            return new GroupFilter(Mode.ANY_MATCH, groups);
+        }
+        return groups.isEmpty() ? new GroupFilter(Mode.ANY_MATCH, groups) : Predicate.super.negate();
+    }
+
+    /**
+     * Match mode of {@link GroupFilter}.
+     *
+     * @author huangchengxing
+     */
+    public enum Mode {
+
+        /**
+         * the object belongs to all the groups
+         */
+        ALL_MATCH,
+
+        /**
+         * the object belongs to any of the groups
+         */
+        ANY_MATCH,
+
+        /**
+         * the object does not belong to any of the groups
+         */
+        NONE_MATCH
+    }
+}
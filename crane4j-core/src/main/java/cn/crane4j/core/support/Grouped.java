@@ -6,7 +6,6 @@ import cn.crane4j.core.util.ArrayUtils;
 import java.util.Collections;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 /**
  * Represents objects that can be grouped by a specific name.
@@ -31,7 +30,7 @@ public interface Grouped {
      */
     static Predicate<Grouped> allMatch(String... groups) {
         return ArrayUtils.isEmpty(groups) ?
-            alwaysMatch() : t -> Stream.of(groups).allMatch(t::isBelong);
+            alwaysMatch() : GroupFilter.of(GroupFilter.Mode.ALL_MATCH, groups);
     }
 
     /**
@@ -49,7 +48,7 @@ public interface Grouped {
      */
     static Predicate<Grouped> noneMatch(String... groups) {
         return ArrayUtils.isEmpty(groups) ?
-            alwaysMatch() : t -> Stream.of(groups).noneMatch(t::isBelong);
+            alwaysMatch() : GroupFilter.of(GroupFilter.Mode.NONE_MATCH, groups);
     }
 
     /**
@@ -67,16 +66,17 @@ public interface Grouped {
      */
     static Predicate<Grouped> anyMatch(String... groups) {
         return ArrayUtils.isEmpty(groups) ?
-            alwaysNoneMatch() : t -> Stream.of(groups).anyMatch(t::isBelong);
+            alwaysNoneMatch() : GroupFilter.of(GroupFilter.Mode.ANY_MATCH, groups);
     }
 
     /**
-     * Objects always belong to any group.
+     * Objects always belong to any group.<br />
+     * The returned filters are always equal to each other.
      *
      * @return predicate
      */
     static Predicate<Grouped> alwaysMatch() {
-        return grouped -> true;
+        return GroupFilter.of(GroupFilter.Mode.ALL_MATCH);
     }
 
     /**
@@ -85,7 +85,7 @@ public interface Grouped {
      * @return predicate
      */
     static Predicate<Grouped> alwaysNoneMatch() {
-        return grouped -> false;
+        return GroupFilter.of(GroupFilter.Mode.ANY_MATCH);
     }
 
     /**
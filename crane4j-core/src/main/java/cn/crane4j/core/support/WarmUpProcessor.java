@@ -0,0 +1,199 @@
+package cn.crane4j.core.support;
+
+import cn.crane4j.core.container.ContainerManager;
+import cn.crane4j.core.parser.BeanOperationParser;
+import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.parser.PropertyMapping;
+import cn.crane4j.core.parser.operation.AssembleOperation;
+import cn.crane4j.core.parser.operation.DisassembleOperation;
+import cn.crane4j.core.support.operator.OperatorProxyFactory;
+import cn.crane4j.core.support.reflect.PropertyOperator;
+import cn.crane4j.core.util.Asserts;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>A processor used to warm up the components eagerly,
+ * so that the time spent on first use can be moved to startup.<br />
+ * When {@link #warmUp} is called, the processor will do the following in parallel
+ * on a bounded thread pool which is released after warm-up:
+ * <ul>
+ *     <li>create all containers registered in {@link ContainerManager};</li>
+ *     <li>parse the given types by all {@link BeanOperationParser};</li>
+ *     <li>find the getters and setters of the keys and properties referenced by the parsed operations;</li>
+ *     <li>create the proxy objects for the given operator interfaces if {@link OperatorProxyFactory} is set;</li>
+ * </ul>
+ * The failure of any task will not interrupt the warm-up,
+ * it will be logged and counted in the returned {@link Report}.
+ *
+ * @author huangchengxing
+ * @see ContainerManager#getRegisteredNamespaces()
+ * @since 2.3.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class WarmUpProcessor {
+
+    private final Collection<BeanOperationParser> parsers;
+    private final ContainerManager containerManager;
+    private final PropertyOperator propertyOperator;
+    @Nullable
+    private final OperatorProxyFactory operatorProxyFactory;
+
+    /**
+     * Number of threads used to warm up.
+     */
+    @Setter
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Warm up components.
+     *
+     * @param types types to parse, the interfaces will be used to create operator proxies
+     * @return report of warm-up
+     */
+    public Report warmUp(Collection<Class<?>> types) {
+        Asserts.isTrue(parallelism > 0, "parallelism must be greater than 0");
+        long start = System.currentTimeMillis();
+        Report report = new Report();
+        ExecutorService executor = createExecutor();
+        try {
+            List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            containerManager.getRegisteredNamespaces().forEach(namespace ->
+                tasks.add(submit(executor, report, namespace, () -> warmUpContainer(namespace, report)))
+            );
+            types.forEach(type -> tasks.add(submit(
+                executor, report, type, () -> warmUpType(type, report)
+            )));
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+        report.elapsedMillis = System.currentTimeMillis() - start;
+        log.info("crane4j components warm-up completed: {}", report);
+        return report;
+    }
+
+    private ExecutorService createExecutor() {
+        AtomicInteger counter = new AtomicInteger(0);
+        return new ThreadPoolExecutor(
+            parallelism, parallelism, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, "crane4j-warm-up-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    private static CompletableFuture<Void> submit(
+        ExecutorService executor, Report report, Object target, Runnable task) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                task.run();
+            } catch (Exception ex) {
+                report.failures.incrementAndGet();
+                log.warn("failed to warm up [{}]: {}", target, ex.getMessage());
+            }
+        }, executor);
+    }
+
+    private void warmUpContainer(String namespace, Report report) {
+        if (Objects.nonNull(containerManager.getContainer(namespace))) {
+            report.containers.incrementAndGet();
+        }
+    }
+
+    private void warmUpType(Class<?> type, Report report) {
+        if (type.isInterface()) {
+            if (Objects.nonNull(operatorProxyFactory) && Objects.nonNull(operatorProxyFactory.get(type))) {
+                report.operatorProxies.incrementAndGet();
+            }
+            return;
+        }
+        for (BeanOperationParser parser : parsers) {
+            BeanOperations operations = parser.parse(type);
+            report.parsedTypes.incrementAndGet();
+            resolveAccessors(type, operations, report);
+        }
+    }
+
+    private void resolveAccessors(Class<?> type, BeanOperations operations, Report report) {
+        for (AssembleOperation operation : operations.getAssembleOperations()) {
+            resolveGetter(type, operation.getKey(), report);
+            for (PropertyMapping mapping : operation.getPropertyMappings()) {
+                resolveSetter(type, mapping.getReference(), report);
+            }
+        }
+        for (DisassembleOperation operation : operations.getDisassembleOperations()) {
+            resolveGetter(type, operation.getKey(), report);
+        }
+    }
+
+    private void resolveGetter(Class<?> type, String propertyName, Report report) {
+        if (Objects.nonNull(propertyName) && Objects.nonNull(propertyOperator.findGetter(type, propertyName))) {
+            report.accessors.incrementAndGet();
+        }
+    }
+
+    private void resolveSetter(Class<?> type, String propertyName, Report report) {
+        if (Objects.nonNull(propertyName) && Objects.nonNull(propertyOperator.findSetter(type, propertyName))) {
+            report.accessors.incrementAndGet();
+        }
+    }
+
+    /**
+     * Report of warm-up.
+     *
+     * @author huangchengxing
+     */
+    public static class Report {
+        private final AtomicInteger containers = new AtomicInteger(0);
+        private final AtomicInteger parsedTypes = new AtomicInteger(0);
+        private final AtomicInteger accessors = new AtomicInteger(0);
+        private final AtomicInteger operatorProxies = new AtomicInteger(0);
+        private final AtomicInteger failures = new AtomicInteger(0);
+        @Getter
+        private long elapsedMillis;
+
+        public int getContainers() {
+            return containers.get();
+        }
+
+        public int getParsedTypes() {
+            return parsedTypes.get();
+        }
+
+        public int getAccessors() {
+            return accessors.get();
+        }
+
+        public int getOperatorProxies() {
+            return operatorProxies.get();
+        }
+
+        public int getFailures() {
+            return failures.get();
+        }
+
+        @Override
+        public String toString() {
+            return "containers=" + containers + ", parsedTypes=" + parsedTypes
+                + ", accessors=" + accessors + ", operatorProxies=" + operatorProxies
+                + ", failures=" + failures + ", elapsed=" + elapsedMillis + "ms";
+        }
+    }
+}
@@ -4,6 +4,7 @@ import cn.crane4j.annotation.MappingType;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.ContainerProvider;
 import cn.crane4j.core.container.MethodInvokerContainer;
+import cn.crane4j.core.parser.PropertyMapping;
 import cn.crane4j.core.support.MethodInvoker;
 import cn.crane4j.core.support.container.MethodInvokerContainerCreator;
 import cn.crane4j.core.util.Asserts;
@@ -11,16 +12,20 @@ import cn.crane4j.core.util.CollectionUtils;
 import cn.crane4j.core.util.StringUtils;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -58,6 +63,19 @@ public abstract class AbstractQueryContainerProvider<T> implements ContainerProv
     protected final Map<String, Repository<T>> registeredRepositories = new ConcurrentHashMap<>(32);
     protected final MethodInvokerContainerCreator methodInvokerContainerCreator;
 
+    /**
+     * <p>Whether to derive the properties to query from property mappings of operations
+     * if the properties are not specified, it is disabled by default.<br />
+     * Note that if it is enabled, the properties which are not used by any property mapping
+     * will not be populated in the objects returned by the container.
+     *
+     * @see #determineQueryProperties
+     * @since 2.3.0
+     */
+    @Getter
+    @Setter
+    protected boolean enableProjectionPruning = false;
+
     // =================== repository ===================
 
     /**
@@ -81,6 +99,18 @@ public abstract class AbstractQueryContainerProvider<T> implements ContainerProv
      */
     protected abstract Repository<T> createRepository(String name, T target);
 
+    /**
+     * Get the registered repository object.
+     *
+     * @param name name of the repository.
+     * @return A {@link Repository} instance, or null if not registered.
+     * @since 2.3.0
+     */
+    @Nullable
+    protected Repository<T> getRepository(String name) {
+        return registeredRepositories.get(name);
+    }
+
     // =================== container ===================
 
     /**
@@ -113,6 +143,62 @@ public abstract class AbstractQueryContainerProvider<T> implements ContainerProv
         return getContainer(namespace);
     }
 
+    /**
+     * <p>Determines the properties to query.<br />
+     * If {@code properties} is not empty, return it directly.
+     * otherwise, if {@link #enableProjectionPruning} is true,
+     * try to derive the properties to query from the source properties of {@code propertyMappings},
+     * so that only the columns actually used will be queried.
+     *
+     * <p>The properties cannot be derived and null will be returned
+     * (that means all columns will be queried) if:
+     * <ul>
+     *     <li>the repository is not registered;</li>
+     *     <li>there is no property mapping;</li>
+     *     <li>any property mapping has no source property, which means the whole object is required;</li>
+     *     <li>any source property cannot be converted to column of the repository;</li>
+     * </ul>
+     *
+     * <p>The {@code propertyMappings} should be the union of property mappings of
+     * all operations which query the same repository by the same key,
+     * otherwise these operations will use different containers and query respectively.
+     *
+     * @param name repository name
+     * @param properties specified properties to query
+     * @param propertyMappings property mappings of operations which use the container
+     * @return properties to query, or null if all columns should be queried
+     * @since 2.3.0
+     */
+    @Nullable
+    public List<String> determineQueryProperties(
+        String name, @Nullable List<String> properties, Collection<PropertyMapping> propertyMappings) {
+        if (CollectionUtils.isNotEmpty(properties)) {
+            return properties;
+        }
+        if (!enableProjectionPruning || CollectionUtils.isEmpty(propertyMappings)) {
+            return null;
+        }
+        Repository<T> repository = getRepository(name);
+        if (Objects.isNull(repository)) {
+            return null;
+        }
+        // sort properties, so that the containers with same properties can be reused
+        Set<String> sources = new TreeSet<>();
+        for (PropertyMapping mapping : propertyMappings) {
+            if (!mapping.hasSource()) {
+                return null;
+            }
+            String source = mapping.getSource();
+            int index = source.indexOf('.');
+            source = index > 0 ? source.substring(0, index) : source;
+            if (Objects.isNull(repository.propertyToColumn(source, null))) {
+                return null;
+            }
+            sources.add(source);
+        }
+        return new ArrayList<>(sources);
+    }
+
     /**
      * Determines the namespace of container.
      *
@@ -139,7 +225,7 @@ public abstract class AbstractQueryContainerProvider<T> implements ContainerProv
         String name = queryInfo.getRepository();
         String keyProperty = queryInfo.getKeyProperty();
         List<String> properties = queryInfo.getProperties();
-        Repository<T> repository = registeredRepositories.get(name);
+        Repository<T> repository = getRepository(name);
         Asserts.isNotNull(repository, "cannot find repository [{}]", name);
 
         // resolve columns for query
@@ -167,10 +253,21 @@ public abstract class AbstractQueryContainerProvider<T> implements ContainerProv
         );
         return methodInvokerContainerCreator.createContainer(
             repository.getTarget(), methodInvoker, queryInfo.getMappingType(),
-            namespace, repository.getEntityType(), keyProperty
+            namespace, getResultType(repository), keyProperty
         );
     }
 
+    /**
+     * Get type of the objects returned by the {@link MethodInvoker} created by {@link #createMethodInvoker}.
+     *
+     * @param repository repository
+     * @return type of query result, entity type of repository by default
+     * @since 2.3.0
+     */
+    protected Class<?> getResultType(Repository<T> repository) {
+        return repository.getEntityType();
+    }
+
     /**
      * Creates a {@link MethodInvoker} object.
      *
@@ -189,6 +286,40 @@ public abstract class AbstractQueryContainerProvider<T> implements ContainerProv
 
     // =================== components ===================
 
+    /**
+     * <p>Split the keys into chunks, the size of each chunk is not greater than {@code maxSize}.<br />
+     * The size of each chunk will be padded to the power of two or {@code maxSize} by repeating its last key.
+     *
+     * @param keys keys
+     * @param maxSize max size of each chunk, must be greater than 0
+     * @return chunks
+     * @throws cn.crane4j.core.exception.Crane4jException thrown when {@code maxSize} is less than or equal to 0
+     * @since 2.3.0
+     */
+    public static List<List<Object>> splitKeys(Collection<?> keys, int maxSize) {
+        Asserts.isTrue(maxSize > 0, "the max size of each chunk must be greater than 0, but got [{}]", maxSize);
+        List<List<Object>> chunks = new ArrayList<>(keys.size() / maxSize + 1);
+        List<Object> chunk = null;
+        for (Object k : keys) {
+            if (Objects.isNull(chunk) || chunk.size() == maxSize) {
+                chunk = new ArrayList<>(Math.min(maxSize, keys.size()));
+                chunks.add(chunk);
+            }
+            chunk.add(k);
+        }
+        chunks.forEach(c -> padToPowerOfTwo(c, maxSize));
+        return chunks;
+    }
+
+    private static void padToPowerOfTwo(List<Object> chunk, int maxSize) {
+        int size = chunk.size();
+        int targetSize = Math.min(maxSize, size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1);
+        Object last = chunk.get(size - 1);
+        for (int i = size; i < targetSize; i++) {
+            chunk.add(last);
+        }
+    }
+
     /**
      * Clear all caches
      */
@@ -0,0 +1,333 @@
+package cn.crane4j.core.support.container.query;
+
+import cn.crane4j.core.exception.Crane4jException;
+import cn.crane4j.core.support.MethodInvoker;
+import cn.crane4j.core.support.container.MethodInvokerContainerCreator;
+import cn.crane4j.core.util.Asserts;
+import cn.crane4j.core.util.CollectionUtils;
+import cn.crane4j.core.util.StringUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>A {@link AbstractQueryContainerProvider} implementation based on JDBC,
+ * which queries the table registered by {@link #registerTable} from the {@link DataSource} directly.<br />
+ * For example:
+ * <pre>{@code
+ * JdbcQueryContainerProvider provider = new JdbcQueryContainerProvider(creator, dataSource);
+ * provider.registerTable("user", "t_user", "id");
+ * // select id, user_name from t_user where id in (?, ?, ...)
+ * Container<Integer> container = provider.getQueryContainer("user", "id", Collections.singletonList("userName"));
+ * }</pre>
+ *
+ * <p>The query results are returned as {@link QueryRow} which keys are property names of columns,
+ * so the {@link cn.crane4j.core.support.reflect.PropertyOperator} used by crane4j
+ * must be able to access {@link Map}, such as {@link cn.crane4j.core.support.reflect.MapAccessiblePropertyOperator}.
+ *
+ * <p>When querying, the keys will be split into buckets by {@link #splitKeys},
+ * so there are only a few fixed sizes of parameter list,
+ * and the SQL of each size is generated once and reused,
+ * so that the prepared statements can be cached effectively by the connection pool or driver.<br />
+ * If {@code maxKeysPerQuery} is not positive, the keys will not be split but still be padded.
+ * This class only caches the SQL, the prepared statements are always prepared from the connection,
+ * so enable the statement cache of connection pool or driver if necessary.
+ *
+ * @author huangchengxing
+ * @see QueryRow
+ * @since 2.3.0
+ */
+public class JdbcQueryContainerProvider extends NamespaceResolvableQueryContainerProvider<JdbcQueryContainerProvider.Table> {
+
+    private final DataSource dataSource;
+
+    /**
+     * The maximum number of keys in a single query statement,
+     * if it is less than or equal to 0, all keys will be queried by one statement.
+     *
+     * @see #splitKeys
+     */
+    @Setter
+    private int maxKeysPerQuery = 512;
+
+    /**
+     * The fetch size of statement, if it is less than or equal to 0, the default fetch size of driver will be used.
+     */
+    @Setter
+    private int fetchSize = 0;
+
+    /**
+     * Create a {@link JdbcQueryContainerProvider} instance.
+     *
+     * @param methodInvokerContainerCreator method invoker container creator
+     * @param dataSource data source
+     */
+    public JdbcQueryContainerProvider(
+        MethodInvokerContainerCreator methodInvokerContainerCreator, DataSource dataSource) {
+        super(methodInvokerContainerCreator);
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Register a table, the columns of table will be resolved from the metadata of database,
+     * and the property name of column is the camel case of column name.
+     *
+     * @param name name of repository
+     * @param tableName table name
+     * @param keyColumn key column
+     */
+    public void registerTable(String name, String tableName, String keyColumn) {
+        registerRepository(name, new Table(tableName, keyColumn, Collections.emptyMap()));
+    }
+
+    /**
+     * Creates a repository object.
+     *
+     * @param name name of the repository.
+     * @param target repository object.
+     * @return A {@link Repository} instance.
+     */
+    @Override
+    protected Repository<Table> createRepository(String name, Table target) {
+        Map<String, String> columns = target.getColumns().isEmpty() ?
+            resolveColumns(target.getTableName()) : target.getColumns();
+        Asserts.isFalse(columns.isEmpty(), "cannot resolve columns of table [{}]", target.getTableName());
+        return new TableInfo(target, columns);
+    }
+
+    private Map<String, String> resolveColumns(String tableName) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // some databases store the unquoted identifiers in upper case or lower case
+            for (String name : new String[]{ tableName, tableName.toUpperCase(Locale.ROOT), tableName.toLowerCase(Locale.ROOT) }) {
+                Map<String, String> columns = new LinkedHashMap<>();
+                try (ResultSet resultSet = metaData.getColumns(connection.getCatalog(), null, name, null)) {
+                    while (resultSet.next()) {
+                        String column = resultSet.getString("COLUMN_NAME");
+                        columns.put(StringUtils.toCamelCase(column), column);
+                    }
+                }
+                if (!columns.isEmpty()) {
+                    return columns;
+                }
+            }
+            return Collections.emptyMap();
+        } catch (SQLException e) {
+            throw new Crane4jException(e);
+        }
+    }
+
+    /**
+     * Creates a {@link MethodInvoker} object.
+     *
+     * @param namespace The namespace.
+     * @param repository The repository object.
+     * @param queryColumns The columns to query.
+     * @param keyColumn The key column.
+     * @param keyProperty The key property.
+     * @return A MethodInvoker object.
+     */
+    @NonNull
+    @Override
+    protected MethodInvoker createMethodInvoker(
+        String namespace, Repository<Table> repository, Set<String> queryColumns, String keyColumn, String keyProperty) {
+        TableInfo tableInfo = (TableInfo)repository;
+        List<String> columns = queryColumns.isEmpty() ?
+            new ArrayList<>(tableInfo.getColumns().values()) : new ArrayList<>(queryColumns);
+        List<String> properties = new ArrayList<>(columns.size());
+        columns.forEach(c -> properties.add(tableInfo.columnToProperty(c)));
+        String sqlPrefix = StringUtils.format(
+            "SELECT {} FROM {} WHERE {} IN (", String.join(", ", columns), tableInfo.getTableName(), keyColumn
+        );
+        return new Query(dataSource, sqlPrefix, new QueryRow.Header(properties), maxKeysPerQuery, fetchSize);
+    }
+
+    /**
+     * Table to query.
+     *
+     * @author huangchengxing
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Table {
+
+        /**
+         * table name
+         */
+        private final String tableName;
+
+        /**
+         * key column
+         */
+        private final String keyColumn;
+
+        /**
+         * property names and column names,
+         * if it is empty, the columns will be resolved from the metadata of database
+         */
+        private final Map<String, String> columns;
+    }
+
+    /**
+     * Repository of table.
+     *
+     * @author huangchengxing
+     */
+    protected static class TableInfo implements Repository<Table> {
+
+        private final Table table;
+        @Getter
+        private final Map<String, String> columns;
+        private final Map<String, String> properties;
+        @Getter
+        private final String keyProperty;
+
+        /**
+         * Create a {@link TableInfo} instance.
+         *
+         * @param table table
+         * @param columns property names and column names
+         */
+        public TableInfo(Table table, Map<String, String> columns) {
+            this.table = table;
+            this.columns = columns;
+            this.properties = new HashMap<>(columns.size() << 1);
+            columns.forEach((p, c) -> {
+                properties.put(c, p);
+                properties.putIfAbsent(c.toLowerCase(Locale.ROOT), p);
+            });
+            this.keyProperty = columnToProperty(table.getKeyColumn());
+        }
+
+        @Override
+        public Table getTarget() {
+            return table;
+        }
+
+        @Override
+        public String getTableName() {
+            return table.getTableName();
+        }
+
+        @Override
+        public Class<?> getEntityType() {
+            return QueryRow.class;
+        }
+
+        @Override
+        public String propertyToColumn(String property, String defaultValue) {
+            return columns.getOrDefault(property, defaultValue);
+        }
+
+        @Override
+        public String propertyToQueryColumn(String property, String defaultValue) {
+            return columns.getOrDefault(property, defaultValue);
+        }
+
+        /**
+         * Convert column name to property name.
+         *
+         * @param column column name
+         * @return property name, or the column itself if not found
+         */
+        public String columnToProperty(String column) {
+            String property = properties.get(column);
+            if (Objects.isNull(property)) {
+                property = properties.get(column.toLowerCase(Locale.ROOT));
+            }
+            return Objects.isNull(property) ? column : property;
+        }
+    }
+
+    /**
+     * Query rows by keys with prepared statements.
+     *
+     * @author huangchengxing
+     */
+    @RequiredArgsConstructor
+    protected static class Query implements MethodInvoker {
+
+        private final DataSource dataSource;
+        private final String sqlPrefix;
+        private final QueryRow.Header header;
+        private final int maxKeysPerQuery;
+        private final int fetchSize;
+        private final Map<Integer, String> statements = new ConcurrentHashMap<>(8);
+
+        /**
+         * Query rows by keys.
+         *
+         * @param target not used
+         * @param args keys
+         * @return rows
+         */
+        @Override
+        public Object invoke(Object target, Object... args) {
+            Collection<?> keys = CollectionUtils.adaptObjectToCollection(args[0]);
+            if (keys.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<QueryRow> rows = new ArrayList<>(keys.size());
+            try (Connection connection = dataSource.getConnection()) {
+                // keys are padded even if they are not split, so the number of cached sql is bounded
+                int maxSize = maxKeysPerQuery <= 0 ? Integer.MAX_VALUE : maxKeysPerQuery;
+                for (List<Object> bucket : splitKeys(keys, maxSize)) {
+                    query(connection, bucket, rows);
+                }
+            } catch (SQLException e) {
+                throw new Crane4jException(e);
+            }
+            return rows;
+        }
+
+        private void query(Connection connection, List<Object> bucket, List<QueryRow> rows) throws SQLException {
+            String sql = CollectionUtils.computeIfAbsent(statements, bucket.size(), this::createSql);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                if (fetchSize > 0) {
+                    statement.setFetchSize(fetchSize);
+                }
+                for (int i = 0; i < bucket.size(); i++) {
+                    statement.setObject(i + 1, bucket.get(i));
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    int columnCount = header.size();
+                    while (resultSet.next()) {
+                        Object[] values = new Object[columnCount];
+                        for (int i = 0; i < columnCount; i++) {
+                            values[i] = resultSet.getObject(i + 1);
+                        }
+                        rows.add(new QueryRow(header, values));
+                    }
+                }
+            }
+        }
+
+        private String createSql(int size) {
+            StringBuilder builder = new StringBuilder(sqlPrefix.length() + size * 3);
+            builder.append(sqlPrefix);
+            for (int i = 0; i < size; i++) {
+                builder.append(i == 0 ? "?" : ", ?");
+            }
+            return builder.append(')').toString();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package cn.crane4j.core.support.container.query;
+
+import cn.crane4j.core.util.Asserts;
+import lombok.Getter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>A lightweight row of query result, which is used to replace the entity object.<br />
+ * The row only holds an array of column values,
+ * and the names of columns are held by a {@link Header} shared by all rows of the same query,
+ * so it is cheaper than an entity object or a {@link HashMap} when a large number of rows are queried.
+ *
+ * <p>The row can be accessed as a read-only {@link Map} which keys are property names,
+ * so it can be read by {@link cn.crane4j.core.support.reflect.MapAccessiblePropertyOperator} directly.
+ *
+ * @author huangchengxing
+ * @see cn.crane4j.core.support.reflect.MapAccessiblePropertyOperator
+ * @since 2.3.0
+ */
+public class QueryRow extends AbstractMap<String, Object> {
+
+    @Getter
+    private final Header header;
+    private final Object[] values;
+
+    /**
+     * Create a {@link QueryRow} instance.
+     *
+     * @param header header
+     * @param values values of columns, the order is the same as {@link Header#getProperties()}
+     */
+    public QueryRow(Header header, Object[] values) {
+        Asserts.isTrue(
+            header.size() == values.length,
+            "the number of values [{}] is not equal to the number of columns [{}]", values.length, header.size()
+        );
+        this.header = header;
+        this.values = values;
+    }
+
+    /**
+     * Get value of the column at the specified index.
+     *
+     * @param index index of column
+     * @return value
+     */
+    @Nullable
+    public Object get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Get value of the specified property.
+     *
+     * @param key property name
+     * @return value, or null if the property is not exists
+     */
+    @Nullable
+    @Override
+    public Object get(Object key) {
+        int index = header.indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    /**
+     * Whether the specified property is exists.
+     *
+     * @param key property name
+     * @return boolean
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return header.indexOf(key) >= 0;
+    }
+
+    /**
+     * Get the number of columns.
+     *
+     * @return number of columns
+     */
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Get entries of row.
+     *
+     * @return entries
+     */
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+                    private int cursor = 0;
+                    @Override
+                    public boolean hasNext() {
+                        return cursor < values.length;
+                    }
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int index = cursor++;
+                        return new SimpleImmutableEntry<>(header.properties[index], values[index]);
+                    }
+                };
+            }
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    /**
+     * Names of columns shared by rows of the same query.
+     *
+     * @author huangchengxing
+     */
+    public static class Header {
+
+        private final String[] properties;
+        private final Map<String, Integer> indexes;
+        private final Map<String, Integer> caseInsensitiveIndexes;
+
+        /**
+         * Create a {@link Header} instance.
+         *
+         * @param properties property names of columns
+         */
+        public Header(List<String> properties) {
+            this.properties = properties.toArray(new String[0]);
+            this.indexes = new HashMap<>(this.properties.length << 1);
+            this.caseInsensitiveIndexes = new HashMap<>(this.properties.length << 1);
+            for (int i = 0; i < this.properties.length; i++) {
+                indexes.putIfAbsent(this.properties[i], i);
+                caseInsensitiveIndexes.putIfAbsent(this.properties[i].toLowerCase(Locale.ROOT), i);
+            }
+        }
+
+        /**
+         * Get property names of columns.
+         *
+         * @return property names
+         */
+        public List<String> getProperties() {
+            return Collections.unmodifiableList(Arrays.asList(properties));
+        }
+
+        /**
+         * Get the number of columns.
+         *
+         * @return number of columns
+         */
+        public int size() {
+            return properties.length;
+        }
+
+        /**
+         * Get index of the specified property.
+         *
+         * @param property property name
+         * @return index, or -1 if the property is not exists
+         */
+        public int indexOf(Object property) {
+            Integer index = indexes.get(property);
+            return Objects.isNull(index) ? -1 : index;
+        }
+
+        /**
+         * <p>Get index of the specified column label, the label is case-insensitive,
+         * because some databases will convert the label to upper case or lower case.
+         *
+         * @param label column label
+         * @return index, or -1 if the label is not exists
+         */
+        public int indexOfLabel(String label) {
+            Integer index = indexes.get(label);
+            if (Objects.isNull(index)) {
+                index = caseInsensitiveIndexes.get(label.toLowerCase(Locale.ROOT));
+            }
+            return Objects.isNull(index) ? -1 : index;
+        }
+
+        /**
+         * Create a row from the map of column label and value.
+         *
+         * @param columns column label and value
+         * @return row
+         * @see #indexOfLabel
+         */
+        public QueryRow createRow(Map<String, Object> columns) {
+            Object[] values = new Object[properties.length];
+            columns.forEach((label, value) -> {
+                int index = indexOfLabel(label);
+                if (index >= 0) {
+                    values[index] = value;
+                }
+            });
+            return new QueryRow(this, values);
+        }
+    }
+}
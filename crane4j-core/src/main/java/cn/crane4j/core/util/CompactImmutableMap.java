@@ -0,0 +1,236 @@
+package cn.crane4j.core.util;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>An immutable {@link Map} with compact layout, which is read-optimized for the data never changed.<br />
+ * The keys and values are stored in two flat arrays by insertion order,
+ * and an open-addressing hash table with linear probing only stores the positions of keys in the arrays,
+ * so there is no entry object or linked node, the lookup only probes the int array and compares the key,
+ * and the iteration is just a scan of the arrays.
+ *
+ * <p>The table is at most half full, so the probing sequence is usually very short,
+ * and it takes much less memory than {@link java.util.HashMap} for the same data.
+ * It is used to store the data of the containers created from enums or constants,
+ * which are looked up frequently but never modified.
+ *
+ * @author huangchengxing
+ * @see cn.crane4j.core.container.ImmutableMapContainer#forCompactMap
+ * @since 2.3.0
+ */
+public final class CompactImmutableMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int[] EMPTY_TABLE = new int[1];
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+
+    /**
+     * keys by insertion order
+     */
+    private final Object[] keys;
+
+    /**
+     * values at the same index of keys
+     */
+    private final Object[] values;
+
+    /**
+     * hash table, the element is the index of key plus 1, and 0 means the slot is empty
+     */
+    private final int[] table;
+    private final int mask;
+    private Set<Entry<K, V>> entrySet;
+
+    /**
+     * Create an immutable copy of the specified map,
+     * if the map is already a {@link CompactImmutableMap}, return it directly.
+     *
+     * @param map map
+     * @param <K> key type
+     * @param <V> value type
+     * @return immutable map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> CompactImmutableMap<K, V> copyOf(@NonNull Map<? extends K, ? extends V> map) {
+        Objects.requireNonNull(map, "map must not null");
+        return map instanceof CompactImmutableMap ?
+            (CompactImmutableMap<K, V>)map : new CompactImmutableMap<>(map);
+    }
+
+    private CompactImmutableMap(Map<? extends K, ? extends V> map) {
+        int size = map.size();
+        if (size == 0) {
+            this.keys = EMPTY_ARRAY;
+            this.values = EMPTY_ARRAY;
+            this.table = EMPTY_TABLE;
+            this.mask = 0;
+            return;
+        }
+        this.keys = new Object[size];
+        this.values = new Object[size];
+        // keep the load factor of table no more than 0.5
+        this.table = new int[Integer.highestOneBit((size << 1) - 1) << 1];
+        this.mask = table.length - 1;
+        int index = 0;
+        for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            Object key = entry.getKey();
+            keys[index] = key;
+            values[index] = entry.getValue();
+            int slot = hash(key) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = ++index;
+        }
+    }
+
+    /**
+     * Get the number of key-value pairs in the map.
+     *
+     * @return number of key-value pairs
+     */
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Whether the map contains the specified key.
+     *
+     * @param key key
+     * @return true if the map contains the key
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Whether the map contains the specified value.
+     *
+     * @param value value
+     * @return true if the map contains the value
+     */
+    @Override
+    public boolean containsValue(Object value) {
+        for (Object v : values) {
+            if (Objects.equals(v, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the value of the specified key.
+     *
+     * @param key key
+     * @return value, or null if the key does not exist
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : (V)values[index];
+    }
+
+    /**
+     * Get the value of the specified key, or the default value if the key does not exist.
+     *
+     * @param key key
+     * @param defaultValue default value
+     * @return value
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        int index = indexOf(key);
+        return index < 0 ? defaultValue : (V)values[index];
+    }
+
+    /**
+     * Traverse all key-value pairs by insertion order.
+     *
+     * @param action action
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            action.accept((K)keys[i], (V)values[i]);
+        }
+    }
+
+    /**
+     * Get all key-value pairs by insertion order, the returned set is unmodifiable.
+     *
+     * @return all key-value pairs
+     */
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (Objects.isNull(entrySet)) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int indexOf(Object key) {
+        if (keys.length == 0) {
+            return -1;
+        }
+        int slot = hash(key) & mask;
+        int position;
+        while ((position = table[slot]) != 0) {
+            Object k = keys[position - 1];
+            if (k == key || (Objects.nonNull(key) && key.equals(k))) {
+                return position - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int hash(Object key) {
+        int h = Objects.hashCode(key);
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Entry set of {@link CompactImmutableMap}.
+     */
+    private class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new Iterator<Entry<K, V>>() {
+                private int cursor = 0;
+                @Override
+                public boolean hasNext() {
+                    return cursor < keys.length;
+                }
+                @SuppressWarnings("unchecked")
+                @Override
+                public Entry<K, V> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int index = cursor++;
+                    return new SimpleImmutableEntry<>((K)keys[index], (V)values[index]);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package cn.crane4j.core.util;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>An immutable {@link Map} which stores the data built from enum constants,
+ * and supports looking up values by array index.<br />
+ * Besides the general lookup by hash, it supports the following fast paths:
+ * <ul>
+ *     <li>
+ *         if the keys of map are the enum constants themselves,
+ *         the value is obtained from an array indexed by {@link Enum#ordinal()};
+ *     </li>
+ *     <li>
+ *         if all keys of map are {@link Integer} in a small range, such as the code of enum,
+ *         the value is obtained from an array indexed by the key minus the minimum key.
+ *     </li>
+ * </ul>
+ * So the lookup for enum or int code only costs an array index,
+ * and there is no hashing or key conversion.<br />
+ * If the keys of map are not the enum constants, such as their names,
+ * the value of key of an enum constant can be obtained by {@link #getByConstant} explicitly.
+ *
+ * @author huangchengxing
+ * @see cn.crane4j.core.container.EnumContainerBuilder
+ * @since 2.3.0
+ */
+public final class EnumIndexedMap<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * <p>The threshold of span of int keys which can be indexed by array.<br />
+     * The int keys are indexed if their span is not greater than this threshold
+     * or four times the number of keys.
+     */
+    private static final int INDEXED_CODE_SPAN_THRESHOLD = 64;
+
+    /**
+     * enum type
+     */
+    private final Class<?> enumType;
+
+    /**
+     * data by insertion order
+     */
+    private final CompactImmutableMap<K, V> data;
+
+    /**
+     * values of enum constants indexed by ordinal
+     */
+    private final Object[] valuesByOrdinal;
+
+    /**
+     * whether the keys of map are the enum constants themselves
+     */
+    private final boolean keyedByConstant;
+
+    /**
+     * values indexed by int key minus {@link #minCode}, or null if keys are not indexable
+     */
+    @Nullable
+    private final Object[] valuesByCode;
+    private final int minCode;
+
+    /**
+     * Create an {@link EnumIndexedMap} instance.
+     *
+     * @param enumType enum type
+     * @param data data, which keys are obtained from enum constants
+     * @param keysByOrdinal key of each enum constant indexed by ordinal
+     * @param <K> key type
+     * @param <V> value type
+     * @return map
+     */
+    public static <K, V> EnumIndexedMap<K, V> of(
+        @NonNull Class<? extends Enum<?>> enumType, @NonNull Map<K, V> data, @NonNull Object[] keysByOrdinal) {
+        Objects.requireNonNull(enumType, "enumType must not null");
+        Objects.requireNonNull(data, "data must not null");
+        Asserts.isTrue(
+            keysByOrdinal.length == enumType.getEnumConstants().length,
+            "the number of keys must be equal to the number of constants of [{}]", enumType
+        );
+        return new EnumIndexedMap<>(enumType, data, keysByOrdinal);
+    }
+
+    private EnumIndexedMap(Class<?> enumType, Map<K, V> data, Object[] keysByOrdinal) {
+        this.enumType = enumType;
+        this.data = CompactImmutableMap.copyOf(data);
+        this.valuesByOrdinal = new Object[keysByOrdinal.length];
+        Object[] constants = enumType.getEnumConstants();
+        boolean constantKeys = true;
+        for (int i = 0; i < keysByOrdinal.length; i++) {
+            valuesByOrdinal[i] = this.data.get(keysByOrdinal[i]);
+            constantKeys &= keysByOrdinal[i] == constants[i];
+        }
+        this.keyedByConstant = constantKeys;
+
+        // index values by int keys if all keys are integers in a small range
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        boolean indexable = !data.isEmpty();
+        for (K key : data.keySet()) {
+            if (!(key instanceof Integer)) {
+                indexable = false;
+                break;
+            }
+            int code = (Integer)key;
+            min = Math.min(min, code);
+            max = Math.max(max, code);
+        }
+        long span = (long)max - min + 1;
+        if (indexable && span <= Math.max(INDEXED_CODE_SPAN_THRESHOLD, data.size() << 2)) {
+            Object[] values = new Object[(int)span];
+            int offset = min;
+            data.forEach((k, v) -> values[(Integer)k - offset] = v);
+            this.valuesByCode = values;
+            this.minCode = min;
+        } else {
+            this.valuesByCode = null;
+            this.minCode = 0;
+        }
+    }
+
+    /**
+     * Get the number of key-value pairs in the map.
+     *
+     * @return number of key-value pairs
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * Whether the map contains the specified key.
+     *
+     * @param key key
+     * @return true if the map contains the key
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return Objects.nonNull(get(key)) || data.containsKey(key);
+    }
+
+    /**
+     * Whether the map contains the specified value.
+     *
+     * @param value value
+     * @return true if the map contains the value
+     */
+    @Override
+    public boolean containsValue(Object value) {
+        return data.containsValue(value);
+    }
+
+    /**
+     * Get the value of the specified key.
+     *
+     * @param key key
+     * @return value, or null if the key does not exist
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        if (Objects.nonNull(valuesByCode) && key instanceof Integer) {
+            int index = (Integer)key - minCode;
+            return index >= 0 && index < valuesByCode.length ? (V)valuesByCode[index] : null;
+        }
+        if (keyedByConstant && key instanceof Enum && ((Enum<?>)key).getDeclaringClass() == enumType) {
+            return (V)valuesByOrdinal[((Enum<?>)key).ordinal()];
+        }
+        return data.get(key);
+    }
+
+    /**
+     * Get the value of the key obtained from the specified enum constant,
+     * whatever the keys of map are the enum constants or not.
+     *
+     * @param constant enum constant
+     * @return value, or null if the constant is not of the enum type
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V getByConstant(Enum<?> constant) {
+        return Objects.nonNull(constant) && constant.getDeclaringClass() == enumType ?
+            (V)valuesByOrdinal[constant.ordinal()] : null;
+    }
+
+    /**
+     * Traverse all key-value pairs by insertion order.
+     *
+     * @param action action
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        data.forEach(action);
+    }
+
+    /**
+     * Get all key-value pairs by insertion order, the returned set is unmodifiable.
+     *
+     * @return all key-value pairs
+     */
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return data.entrySet();
+    }
+}
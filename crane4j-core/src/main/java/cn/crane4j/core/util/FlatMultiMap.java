@@ -0,0 +1,390 @@
+package cn.crane4j.core.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>A flat implementation of {@link MultiMap} backed by arrays.<br />
+ * The keys are stored in an array by insertion order and found by linear scan,
+ * and the values of each key are stored in an {@link ArrayList} at the same index,
+ * so there is no hash table or entry object to be created when putting values,
+ * and putting a collection of values only appends them to the list at once.
+ *
+ * <p>It is suitable for the map which only holds a few keys and is created frequently,
+ * such as grouping targets by {@link cn.crane4j.core.parser.BeanOperations} during execution,
+ * but the lookup will be slower than {@link StandardMultiMap} if there are lots of keys.
+ *
+ * @author huangchengxing
+ * @see MultiMap#flatMultimap()
+ * @since 2.3.0
+ */
+public class FlatMultiMap<K, V> implements MultiMap<K, V> {
+
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private Object[] keys;
+    private List<V>[] slots;
+    private int size = 0;
+
+    /**
+     * index of the last found key, most of puts are for the same key in a row
+     */
+    private int lastIndex = -1;
+    private MapView mapView;
+
+    /**
+     * Create a {@link FlatMultiMap} instance.
+     */
+    public FlatMultiMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a {@link FlatMultiMap} instance.
+     *
+     * @param expectedKeys expected number of keys
+     */
+    @SuppressWarnings("unchecked")
+    public FlatMultiMap(int expectedKeys) {
+        int capacity = Math.max(expectedKeys, 1);
+        this.keys = new Object[capacity];
+        this.slots = new List[capacity];
+    }
+
+    /**
+     * Get the number of keys in the map.
+     *
+     * @return the number of keys in the map
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Whether the map is empty.
+     *
+     * @return whether the map is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Whether the map contains the specified key.
+     *
+     * @param o key
+     * @return whether the map contains the specified key
+     */
+    @Override
+    public boolean containsKey(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Put the specified key-value pair into the map.
+     *
+     * @param k key
+     * @param v value
+     * @return whether the map has changed
+     */
+    @Override
+    public boolean put(K k, V v) {
+        int index = slotOf(k);
+        return slots[index].add(v);
+    }
+
+    /**
+     * Put all key-value pairs in the specified map into the map.
+     *
+     * @param k        key
+     * @param iterable values
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void putAll(K k, Iterable<? extends V> iterable) {
+        if (iterable instanceof Collection) {
+            Collection<? extends V> collection = (Collection<? extends V>)iterable;
+            // do not create key for empty values
+            if (!collection.isEmpty()) {
+                // the slots may be reallocated when adding key, so get the index first
+                int index = slotOf(k);
+                slots[index].addAll(collection);
+            }
+        } else {
+            iterable.forEach(v -> put(k, v));
+        }
+    }
+
+    /**
+     * Put all key-value pairs in the specified map into the map.
+     *
+     * @param multiMap map
+     */
+    @Override
+    public void putAll(MultiMap<K, V> multiMap) {
+        multiMap.asMap().forEach(this::putAll);
+    }
+
+    /**
+     * Remove all key-value pairs with the specified key from the map.
+     *
+     * @param o key
+     * @return all values of the specified key
+     */
+    @Override
+    public Collection<V> removeAll(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return Collections.emptyList();
+        }
+        List<V> values = slots[index];
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(slots, index + 1, slots, index, moved);
+        }
+        size--;
+        keys[size] = null;
+        slots[size] = null;
+        lastIndex = -1;
+        return values;
+    }
+
+    /**
+     * Clear the map and remove all key-value pairs.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(slots, 0, size, null);
+        size = 0;
+        lastIndex = -1;
+    }
+
+    /**
+     * Get all values of the specified key, if the key does not exist, return an empty collection.
+     *
+     * @param k key
+     * @return all values of the specified key
+     */
+    @Override
+    public Collection<V> get(K k) {
+        int index = indexOf(k);
+        return index < 0 ? Collections.emptyList() : slots[index];
+    }
+
+    /**
+     * Get all keys in the map.
+     *
+     * @return all keys in the map
+     */
+    @Override
+    public Set<K> keySet() {
+        return asListMap().keySet();
+    }
+
+    /**
+     * Get all values in the map.
+     *
+     * @return all values in the map
+     */
+    @Override
+    public Collection<V> values() {
+        List<V> values = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            values.addAll(slots[i]);
+        }
+        return values;
+    }
+
+    /**
+     * <p>Get all key-value pairs in the map.<br />
+     * The returned entries are modifiable, but the modification will not affect the map.
+     *
+     * @return all key-value pairs in the map
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Collection<Map.Entry<K, V>> entries() {
+        List<Map.Entry<K, V>> entries = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            K key = (K)keys[i];
+            slots[i].forEach(v -> entries.add(new AbstractMap.SimpleEntry<>(key, v)));
+        }
+        return entries;
+    }
+
+    /**
+     * Traverse all key-value pairs in the map.
+     *
+     * @param action action
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < size; i++) {
+            K key = (K)keys[i];
+            for (V value : slots[i]) {
+                action.accept(key, value);
+            }
+        }
+    }
+
+    /**
+     * Get java map of the multimap, the returned map is a modifiable view of this map.
+     *
+     * @return java map of the multi map
+     */
+    @Override
+    public Map<K, Collection<V>> asMap() {
+        if (Objects.isNull(mapView)) {
+            mapView = new MapView();
+        }
+        return mapView;
+    }
+
+    /**
+     * Get java map of the multimap which values are lists,
+     * the returned map is a modifiable view of this map.
+     *
+     * @return java map of the multi map
+     */
+    @SuppressWarnings("unchecked")
+    public Map<K, List<V>> asListMap() {
+        // all values in the view are lists
+        return (Map<K, List<V>>)(Map<K, ?>)asMap();
+    }
+
+    private int indexOf(Object k) {
+        if (lastIndex >= 0 && keys[lastIndex] == k) {
+            return lastIndex;
+        }
+        for (int i = 0; i < size; i++) {
+            Object key = keys[i];
+            if (key == k || (Objects.nonNull(k) && k.equals(key))) {
+                lastIndex = i;
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int slotOf(K k) {
+        int index = indexOf(k);
+        if (index >= 0) {
+            return index;
+        }
+        if (size == keys.length) {
+            int capacity = size << 1;
+            keys = Arrays.copyOf(keys, capacity);
+            slots = Arrays.copyOf(slots, capacity);
+        }
+        keys[size] = k;
+        slots[size] = new ArrayList<>();
+        lastIndex = size;
+        return size++;
+    }
+
+    /**
+     * A map view of {@link FlatMultiMap}.
+     */
+    private class MapView extends AbstractMap<K, Collection<V>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        public List<V> get(Object key) {
+            int index = indexOf(key);
+            return index < 0 ? null : slots[index];
+        }
+
+        @Override
+        public List<V> put(K key, Collection<V> value) {
+            boolean exists = indexOf(key) >= 0;
+            int index = slotOf(key);
+            List<V> old = slots[index];
+            // always copy values, so the map never shares the collection with the caller
+            slots[index] = new ArrayList<>(value);
+            return exists ? old : null;
+        }
+
+        @Override
+        public List<V> remove(Object key) {
+            int index = indexOf(key);
+            if (index < 0) {
+                return null;
+            }
+            List<V> values = slots[index];
+            FlatMultiMap.this.removeAll(key);
+            return values;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEach(BiConsumer<? super K, ? super Collection<V>> action) {
+            for (int i = 0; i < size; i++) {
+                action.accept((K)keys[i], slots[i]);
+            }
+        }
+
+        @Override
+        public Set<Entry<K, Collection<V>>> entrySet() {
+            return new AbstractSet<Entry<K, Collection<V>>>() {
+                @Override
+                public int size() {
+                    return size;
+                }
+                @Override
+                public Iterator<Entry<K, Collection<V>>> iterator() {
+                    return new Iterator<Entry<K, Collection<V>>>() {
+                        private int cursor = 0;
+                        private int last = -1;
+                        @Override
+                        public boolean hasNext() {
+                            return cursor < size;
+                        }
+                        @SuppressWarnings("unchecked")
+                        @Override
+                        public Entry<K, Collection<V>> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            last = cursor++;
+                            return new SimpleImmutableEntry<>((K)keys[last], slots[last]);
+                        }
+                        @Override
+                        public void remove() {
+                            if (last < 0) {
+                                throw new IllegalStateException();
+                            }
+                            FlatMultiMap.this.removeAll(keys[last]);
+                            cursor = last;
+                            last = -1;
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.function.BiConsumer;
  *
  * @author huangchengxing
  * @see StandardMultiMap
+ * @see FlatMultiMap
  */
 public interface MultiMap<K, V> {
 
@@ -53,6 +54,18 @@ public interface MultiMap<K, V> {
         return new StandardMultiMap<>(new LinkedHashMap<>(), LinkedHashSet::new);
     }
 
+    /**
+     * Create a new {@link MultiMap} instance backed by arrays,
+     * which is suitable for the map only holds a few keys.
+     *
+     * @return a new {@link MultiMap} instance
+     * @see FlatMultiMap
+     * @since 2.3.0
+     */
+    static <K, V> MultiMap<K, V> flatMultimap() {
+        return new FlatMultiMap<>();
+    }
+
     /**
      * Get the total number of key-value pairs in the map.
      *
@@ -187,6 +187,32 @@ public class StringUtils {
         return new String(charArray);
     }
 
+    /**
+     * <p>Convert the underscore-separated string to camel case.<br />
+     * eg: {@code "user_name"} and {@code "USER_NAME"} will return {@code "userName"}.
+     *
+     * @param str str
+     * @return camel case string
+     * @since 2.3.0
+     */
+    public static String toCamelCase(String str) {
+        if (isEmpty(str)) {
+            return str;
+        }
+        StringBuilder builder = new StringBuilder(str.length());
+        boolean upperNext = false;
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c == '_') {
+                upperNext = builder.length() > 0;
+                continue;
+            }
+            builder.append(upperNext ? Character.toUpperCase(c) : Character.toLowerCase(c));
+            upperNext = false;
+        }
+        return builder.toString();
+    }
+
     /**
      * <p>Whether the given {@link CharSequence} is blank.
      * eg: {@code null, "", " "} will return true, {@code "a"} will return false.
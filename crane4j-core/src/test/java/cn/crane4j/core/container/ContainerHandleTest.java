@@ -0,0 +1,50 @@
+package cn.crane4j.core.container;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+
+/**
+ * test for {@link ContainerHandle}
+ *
+ * @author huangchengxing
+ */
+public class ContainerHandleTest {
+
+    @Test
+    public void getContainer() {
+        DefaultContainerManager containerManager = new DefaultContainerManager();
+        ContainerHandle handle = containerManager.getContainerHandle("test");
+        Assert.assertEquals("test", handle.getNamespace());
+        Assert.assertSame(containerManager, handle.getContainerManager());
+        Assert.assertSame(handle, containerManager.getContainerHandle("test"));
+        Assert.assertNull(handle.getContainer());
+
+        Container<Object> container = Containers.forMap("test", Collections.emptyMap());
+        containerManager.registerContainer(container);
+        Assert.assertSame(container, handle.getContainer());
+        Assert.assertSame(container, handle.getContainer());
+
+        // handle will be reset after container registered again
+        Container<Object> newContainer = Containers.forMap("test", Collections.emptyMap());
+        containerManager.registerContainer(newContainer);
+        Assert.assertSame(newContainer, handle.getContainer());
+
+        containerManager.clear();
+        Assert.assertNull(handle.getContainer());
+    }
+
+    @Test
+    public void getContainerWhenNotCacheable() {
+        DefaultContainerManager containerManager = new DefaultContainerManager();
+        ContainerHandle handle = new ContainerHandle("test", containerManager, false);
+        Container<Object> container = Containers.forMap("test", Collections.emptyMap());
+        containerManager.registerContainer(container);
+        Assert.assertSame(container, handle.getContainer());
+
+        // handle is not reset by manager, but it always obtains container from manager
+        containerManager.containerMap.put("test", Container.empty());
+        Assert.assertSame(Container.empty(), handle.getContainer());
+    }
+}
@@ -0,0 +1,49 @@
+package cn.crane4j.core.container;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * test for {@link ContainerReclaimer}
+ *
+ * @author huangchengxing
+ */
+public class ContainerReclaimerTest {
+
+    @Test
+    public void retireWhenNotPinned() {
+        ContainerReclaimer reclaimer = new ContainerReclaimer();
+        AtomicInteger destroyed = new AtomicInteger(0);
+        reclaimer.retire(destroyed::incrementAndGet);
+        Assert.assertEquals(1, destroyed.get());
+        Assert.assertEquals(0, reclaimer.getRetiredCount());
+    }
+
+    @Test
+    public void retireWhenPinned() {
+        ContainerReclaimer reclaimer = new ContainerReclaimer();
+        AtomicInteger destroyed = new AtomicInteger(0);
+
+        long first = reclaimer.pin();
+        long second = reclaimer.pin();
+        reclaimer.retire(destroyed::incrementAndGet);
+        // the readers pinned after retiring will not block the destruction
+        long third = reclaimer.pin();
+        Assert.assertEquals(0, destroyed.get());
+        Assert.assertEquals(1, reclaimer.getRetiredCount());
+
+        reclaimer.unpin(first);
+        Assert.assertEquals(0, destroyed.get());
+        reclaimer.unpin(second);
+        Assert.assertEquals(1, destroyed.get());
+        Assert.assertEquals(0, reclaimer.getRetiredCount());
+
+        // retired again when the third reader still pinned
+        reclaimer.retire(destroyed::incrementAndGet);
+        Assert.assertEquals(1, destroyed.get());
+        reclaimer.unpin(third);
+        Assert.assertEquals(2, destroyed.get());
+    }
+}
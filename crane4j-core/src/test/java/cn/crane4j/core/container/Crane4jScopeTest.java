@@ -0,0 +1,126 @@
+package cn.crane4j.core.container;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.core.exception.Crane4jException;
+import cn.crane4j.core.executor.BaseExecutorTest;
+import cn.crane4j.core.executor.BeanOperationExecutor;
+import cn.crane4j.core.executor.DisorderedBeanOperationExecutor;
+import cn.crane4j.core.parser.BeanOperations;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * test for {@link Crane4jScope}
+ *
+ * @author huangchengxing
+ */
+public class Crane4jScopeTest extends BaseExecutorTest {
+
+    private final AtomicInteger queryCount = new AtomicInteger(0);
+    private BeanOperationExecutor executor;
+
+    @Before
+    public void init() {
+        executor = new DisorderedBeanOperationExecutor(configuration);
+        configuration.registerContainer(LambdaContainer.<Integer>forLambda("test", ids -> {
+            queryCount.addAndGet(ids.size());
+            return ids.stream().collect(Collectors.toMap(Function.identity(), id -> "name" + id));
+        }));
+    }
+
+    @Test
+    public void open() {
+        Assert.assertNull(Crane4jScope.current());
+        try (Crane4jScope scope = Crane4jScope.open()) {
+            Assert.assertSame(scope, Crane4jScope.current());
+            try (Crane4jScope nested = Crane4jScope.open()) {
+                Assert.assertSame(nested, Crane4jScope.current());
+            }
+            Assert.assertSame(scope, Crane4jScope.current());
+        }
+        Assert.assertNull(Crane4jScope.current());
+    }
+
+    @Test
+    public void wrap() {
+        Container<Integer> container = configuration.getContainer("test");
+        Assert.assertSame(container, Crane4jScope.wrapIfNecessary(container));
+        try (Crane4jScope scope = Crane4jScope.open()) {
+            Container<Integer> wrapped = Crane4jScope.wrapIfNecessary(container);
+            Assert.assertTrue(wrapped instanceof CacheableContainer);
+            Assert.assertSame(wrapped, scope.wrap(container));
+            Assert.assertSame(Container.empty(), scope.wrap(Container.empty()));
+
+            Map<Integer, ?> results = wrapped.get(Arrays.asList(1, 2));
+            Assert.assertEquals("name1", results.get(1));
+            results = wrapped.get(Arrays.asList(1, 2, 3));
+            Assert.assertEquals("name3", results.get(3));
+            Assert.assertEquals(3, queryCount.get());
+        }
+    }
+
+    @Test
+    public void wrapContainersWithSameNamespace() {
+        Container<Integer> container1 = LambdaContainer.forLambda("same", ids -> ids.stream()
+            .collect(Collectors.toMap(Function.identity(), id -> "a" + id)));
+        Container<Integer> container2 = LambdaContainer.forLambda("same", ids -> ids.stream()
+            .collect(Collectors.toMap(Function.identity(), id -> "b" + id)));
+        try (Crane4jScope scope = Crane4jScope.open()) {
+            Assert.assertEquals("a1", scope.wrap(container1).get(Collections.singletonList(1)).get(1));
+            Assert.assertEquals("b1", scope.wrap(container2).get(Collections.singletonList(1)).get(1));
+        }
+    }
+
+    @Test
+    public void closeNotCurrentScope() {
+        Crane4jScope scope = Crane4jScope.open();
+        Crane4jScope nested = Crane4jScope.open();
+        Assert.assertThrows(Crane4jException.class, scope::close);
+        Assert.assertSame(nested, Crane4jScope.current());
+        nested.close();
+        scope.close();
+        Assert.assertNull(Crane4jScope.current());
+    }
+
+    @Test
+    public void execute() {
+        BeanOperations operations = parseOperations(Bean.class);
+        try (Crane4jScope scope = Crane4jScope.open()) {
+            Bean bean1 = new Bean().setId(1);
+            executor.execute(Collections.singletonList(bean1), operations);
+            Assert.assertEquals("name1", bean1.getName());
+
+            Bean bean2 = new Bean().setId(1);
+            Bean bean3 = new Bean().setId(2);
+            executor.execute(Arrays.asList(bean2, bean3), operations);
+            Assert.assertEquals("name1", bean2.getName());
+            Assert.assertEquals("name2", bean3.getName());
+            Assert.assertEquals(2, queryCount.get());
+        }
+
+        // results are released after scope closed
+        Bean bean = new Bean().setId(1);
+        executor.execute(Collections.singletonList(bean), operations);
+        Assert.assertEquals("name1", bean.getName());
+        Assert.assertEquals(3, queryCount.get());
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class Bean {
+        @Assemble(container = "test", props = @Mapping(ref = "name"))
+        private Integer id;
+        private String name;
+    }
+}
@@ -1,5 +1,6 @@
 package cn.crane4j.core.container;
 
+import cn.crane4j.core.container.lifecycle.ContainerInstanceLifecycleProcessor;
 import cn.crane4j.core.container.lifecycle.ContainerLifecycleProcessor;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.Assert;
@@ -8,6 +9,8 @@ import org.junit.Test;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * test for {@link DefaultContainerManager}
@@ -97,6 +100,52 @@ public class DefaultContainerManagerTest {
         Assert.assertTrue(containers.contains(container4));
     }
 
+    @Test
+    public void getRegisteredNamespaces() {
+        Container<Object> container1 = Containers.forLambda("test1", ids -> Collections.emptyMap());
+        containerManager.registerContainer(container1);
+        containerManager.registerContainer(
+            ContainerManager.canonicalNamespace("test2", "provider"), () -> Containers.forMap("test2", Collections.emptyMap())
+        );
+        Collection<String> namespaces = containerManager.getRegisteredNamespaces();
+        Assert.assertEquals(2, namespaces.size());
+        Assert.assertTrue(namespaces.contains("test1"));
+        Assert.assertTrue(namespaces.contains(ContainerManager.canonicalNamespace("test2", "provider")));
+    }
+
+    @Test
+    public void getModificationCount() {
+        long count = containerManager.getModificationCount();
+        containerManager.registerContainer(Containers.forLambda("test", ids -> Collections.emptyMap()));
+        Assert.assertEquals(count + 1, containerManager.getModificationCount());
+        containerManager.getContainer("test");
+        Assert.assertEquals(count + 1, containerManager.getModificationCount());
+        containerManager.registerContainerProvider("test", containerManager);
+        Assert.assertEquals(count + 2, containerManager.getModificationCount());
+        containerManager.clear();
+        Assert.assertEquals(count + 3, containerManager.getModificationCount());
+    }
+
+    @Test
+    public void destroyReplacedContainerAfterUnpinned() {
+        containerManager.registerContainerLifecycleProcessor(new ContainerInstanceLifecycleProcessor());
+        Map<String, Object> data = new HashMap<>();
+        data.put("a", "1");
+        containerManager.registerContainer(Containers.forMap("test", data));
+
+        long pinned = containerManager.pinContainers();
+        Container<String> old = containerManager.getContainer("test");
+        Assert.assertNotNull(old);
+        Container<Object> replacement = Containers.forMap("test", Collections.singletonMap("a", "2"));
+        containerManager.registerContainer(replacement);
+        Assert.assertSame(replacement, containerManager.getContainer("test"));
+
+        // the in-flight reader can still read the old container
+        Assert.assertEquals("1", old.get(Collections.singletonList("a")).get("a"));
+        containerManager.unpinContainers(pinned);
+        Assert.assertTrue(data.isEmpty());
+    }
+
     @Test
     public void clear() {
         // register some container、provider、processor
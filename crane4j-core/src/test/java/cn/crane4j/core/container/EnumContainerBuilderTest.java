@@ -6,12 +6,14 @@ import cn.crane4j.core.exception.Crane4jException;
 import cn.crane4j.core.support.SimpleAnnotationFinder;
 import cn.crane4j.core.support.converter.HutoolConverterManager;
 import cn.crane4j.core.support.reflect.ReflectivePropertyOperator;
+import cn.crane4j.core.util.EnumIndexedMap;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * test for {@link EnumContainerBuilder}
@@ -52,6 +54,29 @@ public class EnumContainerBuilderTest {
         Assert.assertEquals(FooEnum.TWO.name(), data.get(1));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void lookupByIndex() {
+        Container<Object> container = EnumContainerBuilder.of(FooEnum.class)
+            .build();
+        Map<Object, FooEnum> data = (Map<Object, FooEnum>) container.get(null);
+        Assert.assertTrue(data instanceof EnumIndexedMap);
+        // keys are names, lookup by enum constant explicitly
+        EnumIndexedMap<Object, FooEnum> indexedMap = (EnumIndexedMap<Object, FooEnum>) data;
+        Assert.assertNull(data.get(FooEnum.ONE));
+        Assert.assertEquals(FooEnum.ONE, indexedMap.getByConstant(FooEnum.ONE));
+        Assert.assertEquals(FooEnum.TWO, indexedMap.getByConstant(FooEnum.TWO));
+        Assert.assertNull(indexedMap.getByConstant(AnnotatedEnum.ONE));
+        // lookup by enum constant directly if keys are enum constants
+        Map<FooEnum, ?> constantKeyedData = EnumContainerBuilder.of(FooEnum.class)
+            .keyGetter(Function.identity())
+            .build().get(null);
+        Assert.assertEquals(FooEnum.ONE, constantKeyedData.get(FooEnum.ONE));
+        Assert.assertEquals(FooEnum.TWO, constantKeyedData.get(FooEnum.TWO));
+        // keep declaration order
+        Assert.assertArrayEquals(new Object[]{ "ONE", "TWO" }, data.keySet().toArray());
+    }
+
     @Test
     public void annotatedEnumDefault() {
         // annotated
@@ -1,5 +1,6 @@
 package cn.crane4j.core.container;
 
+import cn.crane4j.core.util.CompactImmutableMap;
 import org.junit.Assert;
 import static org.junit.Assert.assertEquals;
 import org.junit.Test;
@@ -29,6 +30,23 @@ public class ImmutableMapContainerTest {
         assertEquals(map, container.get(Collections.singletonList("1")));
     }
 
+    @Test
+    public void forCompactMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("1", 1);
+        map.put("2", 2);
+        LimitedContainer<String> container = ImmutableMapContainer.forCompactMap("test", map);
+        assertEquals("test", container.getNamespace());
+        assertEquals(map, container.getAll());
+        Assert.assertTrue(container.getAll() instanceof CompactImmutableMap);
+
+        // data is frozen
+        map.put("3", 3);
+        assertEquals(2, container.getAll().size());
+        ((ImmutableMapContainer<String>)container).destroy();
+        assertEquals(2, container.getAll().size());
+    }
+
     @Test
     public void destroy() {
         // map is modifiable
@@ -0,0 +1,128 @@
+package cn.crane4j.core.container;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * test for {@link RefreshingContainer}
+ *
+ * @author huangchengxing
+ */
+public class RefreshingContainerTest {
+
+    @Test
+    public void forLoader() {
+        AtomicInteger count = new AtomicInteger(0);
+        RefreshingContainer<String> container = RefreshingContainer.forLoader("test", () -> {
+            Map<String, Object> data = new HashMap<>();
+            data.put("count", count.incrementAndGet());
+            return data;
+        });
+        Assert.assertEquals("test", container.getNamespace());
+        Assert.assertEquals(-1L, container.getVersion());
+
+        // load lazily if not initialized
+        Map<String, ?> snapshot = container.get(Collections.singletonList("count"));
+        Assert.assertEquals(1, snapshot.get("count"));
+        Assert.assertSame(snapshot, container.getAll());
+        Assert.assertThrows(UnsupportedOperationException.class, () -> container.getAll().clear());
+
+        // replace snapshot when refresh
+        container.refresh();
+        Assert.assertEquals(2, container.getAll().get("count"));
+        Assert.assertEquals(1, snapshot.get("count"));
+    }
+
+    @Test
+    public void forDeltaLoader() {
+        Map<Integer, Row> table = new HashMap<>();
+        table.put(1, new Row(1, "a", 1L));
+        table.put(2, new Row(2, "b", 2L));
+        AtomicInteger fullLoaded = new AtomicInteger(0);
+        RefreshingContainer<Integer> container = RefreshingContainer.forDeltaLoader(
+            "test", () -> {
+                fullLoaded.incrementAndGet();
+                return new HashMap<>(table);
+            },
+            version -> {
+                Map<Integer, Row> changed = new HashMap<>();
+                table.values().stream()
+                    .filter(row -> row.getVersion() > version)
+                    .forEach(row -> changed.put(row.getId(), row));
+                return changed;
+            },
+            row -> ((Row)row).getVersion()
+        );
+        container.init();
+        Assert.assertEquals(1, fullLoaded.get());
+        Assert.assertEquals(2L, container.getVersion());
+        Assert.assertEquals(2, container.getAll().size());
+
+        // nothing changed
+        Map<Integer, ?> snapshot = container.getAll();
+        container.refresh();
+        Assert.assertSame(snapshot, container.getAll());
+
+        // only load changed rows
+        table.put(2, new Row(2, "c", 3L));
+        table.put(3, new Row(3, "d", 4L));
+        container.refresh();
+        Assert.assertEquals(1, fullLoaded.get());
+        Assert.assertEquals(4L, container.getVersion());
+        Assert.assertEquals(3, container.getAll().size());
+        Assert.assertEquals("c", ((Row)container.getAll().get(2)).getName());
+
+        // removed rows are discarded by full reload
+        table.remove(1);
+        container.refresh();
+        Assert.assertTrue(container.getAll().containsKey(1));
+        container.refresh(true);
+        Assert.assertEquals(2, fullLoaded.get());
+        Assert.assertFalse(container.getAll().containsKey(1));
+        Assert.assertEquals(4L, container.getVersion());
+        container.destroy();
+    }
+
+    @Test
+    public void refreshPeriodically() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(3);
+        RefreshingContainer<String> container = RefreshingContainer.forLoader("test", () -> {
+            int current = count.incrementAndGet();
+            latch.countDown();
+            // keep the previous snapshot if failed
+            if (current == 2) {
+                throw new IllegalStateException("failed");
+            }
+            return Collections.singletonMap("count", current);
+        });
+        container.setRefreshInterval(10, TimeUnit.MILLISECONDS);
+        container.init();
+        Assert.assertEquals(1, container.getAll().get("count"));
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        container.destroy();
+
+        int loaded = count.get();
+        Assert.assertTrue(loaded >= 3);
+        Thread.sleep(50L);
+        Assert.assertTrue(count.get() <= loaded + 1);
+        Assert.assertNotNull(container.getAll().get("count"));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Row {
+        private final Integer id;
+        private final String name;
+        private final long version;
+    }
+}
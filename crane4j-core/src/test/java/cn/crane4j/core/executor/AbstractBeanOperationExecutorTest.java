@@ -2,10 +2,13 @@ package cn.crane4j.core.executor;
 
 import cn.crane4j.annotation.Assemble;
 import cn.crane4j.annotation.Disassemble;
+import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.ContainerManager;
+import cn.crane4j.core.container.Containers;
 import cn.crane4j.core.parser.BeanOperations;
 import cn.crane4j.core.parser.operation.AssembleOperation;
 import cn.crane4j.core.parser.operation.KeyTriggerOperation;
+import cn.crane4j.core.support.Grouped;
 import cn.crane4j.core.util.CollectionUtils;
 import lombok.Data;
 import lombok.Getter;
@@ -59,6 +62,68 @@ public class AbstractBeanOperationExecutorTest extends BaseExecutorTest {
         Assert.assertEquals(2, executions.size());
     }
 
+    @Test
+    public void getExecutionPlan() {
+        Container<Object> container = Containers.forMap("test", Collections.emptyMap());
+        configuration.registerContainer(container);
+        BeanOperations beanOperations = parseOperations(ContainerBean.class);
+        Predicate<? super KeyTriggerOperation> filter = Grouped.alwaysMatch();
+
+        AbstractBeanOperationExecutor.ExecutionPlan plan = executor.getExecutionPlan(beanOperations, filter);
+        Assert.assertSame(plan, executor.getExecutionPlan(beanOperations, Grouped.alwaysMatch()));
+        Assert.assertEquals(2, plan.getAssembleOperations().size());
+        Assert.assertEquals("id", plan.getAssembleOperations().get(0).getKey());
+        Assert.assertSame(container, plan.getContainer(0));
+        Assert.assertTrue(plan.getDisassembleOperations().isEmpty());
+
+        // plan of other filters will not be cached
+        Predicate<? super KeyTriggerOperation> otherFilter = op -> !op.isBelong("key");
+        AbstractBeanOperationExecutor.ExecutionPlan filteredPlan = executor.getExecutionPlan(beanOperations, otherFilter);
+        Assert.assertEquals(1, filteredPlan.getAssembleOperations().size());
+        Assert.assertSame(container, filteredPlan.getContainer(0));
+        Assert.assertNotSame(filteredPlan, executor.getExecutionPlan(beanOperations, otherFilter));
+        Assert.assertSame(plan, executor.getExecutionPlan(beanOperations, filter));
+
+        // plan of group filters are cached by groups
+        AbstractBeanOperationExecutor.ExecutionPlan groupPlan = executor.getExecutionPlan(beanOperations, Grouped.anyMatch("id"));
+        Assert.assertEquals(1, groupPlan.getAssembleOperations().size());
+        Assert.assertSame(groupPlan, executor.getExecutionPlan(beanOperations, Grouped.anyMatch("id")));
+        Assert.assertNotSame(groupPlan, executor.getExecutionPlan(beanOperations, Grouped.noneMatch("id")));
+        Assert.assertSame(
+            executor.getExecutionPlan(beanOperations, Grouped.noneMatch("id")),
+            executor.getExecutionPlan(beanOperations, Grouped.anyMatch("id").negate())
+        );
+
+        // plan will be created again after container registered
+        Container<Object> newContainer = Containers.forMap("test", Collections.emptyMap());
+        configuration.registerContainer(newContainer);
+        AbstractBeanOperationExecutor.ExecutionPlan newPlan = executor.getExecutionPlan(beanOperations, filter);
+        Assert.assertNotSame(plan, newPlan);
+        Assert.assertSame(newContainer, newPlan.getContainer(0));
+
+        executor.execute(Collections.singletonList(new ContainerBean()), beanOperations, otherFilter);
+        Assert.assertEquals(1, executor.getExecutions().size());
+        Assert.assertSame(newContainer, executor.getExecutions().get(0).getContainer());
+    }
+
+    @Test
+    public void evictExecutionPlans() {
+        executor.setMaxCachedExecutionPlans(1);
+        BeanOperations beanOperations = parseOperations(ContainerBean.class);
+        AbstractBeanOperationExecutor.ExecutionPlan plan = executor.getExecutionPlan(beanOperations, Grouped.alwaysMatch());
+        Assert.assertSame(plan, executor.getExecutionPlan(beanOperations, Grouped.alwaysMatch()));
+
+        // the plan of previous operations is evicted
+        BeanOperations otherOperations = parseOperations(Bean.class);
+        executor.getExecutionPlan(otherOperations, Grouped.alwaysMatch());
+        Assert.assertNotSame(plan, executor.getExecutionPlan(beanOperations, Grouped.alwaysMatch()));
+
+        // never cache plans if disabled
+        executor.setMaxCachedExecutionPlans(0);
+        plan = executor.getExecutionPlan(beanOperations, Grouped.alwaysMatch());
+        Assert.assertNotSame(plan, executor.getExecutionPlan(beanOperations, Grouped.alwaysMatch()));
+    }
+
     //@Test
     //public void executeWhenBeanOperationsNotActive() {
         //BeanOperations operations = new SimpleBeanOperations(Void.TYPE);
@@ -115,6 +180,14 @@ public class AbstractBeanOperationExecutorTest extends BaseExecutorTest {
         private NestedBean nestedBean;
     }
 
+    @Data
+    private static class ContainerBean {
+        @Assemble(container = "test", groups = "id")
+        private Integer id;
+        @Assemble(container = "test", groups = "key")
+        private Integer key;
+    }
+
     @Data
     private static class NestedBean {
         @Assemble(groups = {"op", "id"})
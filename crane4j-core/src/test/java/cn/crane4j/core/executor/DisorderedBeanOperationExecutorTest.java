@@ -5,6 +5,7 @@ import cn.crane4j.annotation.Disassemble;
 import cn.crane4j.annotation.Mapping;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.container.LambdaContainer;
 import cn.crane4j.core.parser.BeanOperations;
 import lombok.Data;
 import lombok.Getter;
@@ -15,9 +16,13 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * test for {@link DisorderedBeanOperationExecutor}
@@ -55,6 +60,55 @@ public class DisorderedBeanOperationExecutorTest extends BaseExecutorTest {
         Assert.assertEquals("one", bean2.getNestedBean().getTypeName());
     }
 
+    @Test
+    public void executeWithDisassembleExecutor() {
+        ExecutorService disassembleExecutor = Executors.newFixedThreadPool(2);
+        executor.setDisassembleExecutor(disassembleExecutor);
+        try {
+            MultiNestedBean bean1 = new MultiNestedBean()
+                .setFirst(new NestedBean().setType(1))
+                .setSecond(new Bean().setId(2).setNestedBean(new NestedBean().setType(2)));
+            MultiNestedBean bean2 = new MultiNestedBean()
+                .setFirst(new NestedBean().setType(2))
+                .setSecond(new Bean().setId(1));
+            executor.execute(Arrays.asList(bean1, bean2), parseOperations(MultiNestedBean.class));
+
+            Assert.assertEquals("one", bean1.getFirst().getTypeName());
+            Assert.assertEquals("two", bean1.getSecond().getName());
+            Assert.assertEquals("two", bean1.getSecond().getNestedBean().getTypeName());
+            Assert.assertEquals("two", bean2.getFirst().getTypeName());
+            Assert.assertEquals("one", bean2.getSecond().getName());
+        } finally {
+            disassembleExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void executeWithMergedQuery() {
+        AtomicInteger queryCount = new AtomicInteger(0);
+        Map<Integer, Object> sources = new HashMap<>();
+        sources.put(1, new Source(1, "one"));
+        sources.put(2, new Source(2, "two"));
+        sources.put(3, new Source(3, "three"));
+        configuration.registerContainer(LambdaContainer.<Integer>forLambda("merged", ids -> {
+            queryCount.incrementAndGet();
+            Map<Integer, Object> results = new HashMap<>();
+            ids.forEach(id -> results.put(id, sources.get(id)));
+            return results;
+        }));
+
+        MergedBean bean1 = new MergedBean().setId(1).setIds(Arrays.asList(2, 3));
+        MergedBean bean2 = new MergedBean().setId(2).setIds(Collections.singletonList(1));
+        executor.execute(Arrays.asList(bean1, bean2), parseOperations(MergedBean.class));
+
+        // container only be queried once for different handlers
+        Assert.assertEquals(1, queryCount.get());
+        Assert.assertEquals("one", bean1.getName());
+        Assert.assertEquals(Arrays.asList("two", "three"), bean1.getNames());
+        Assert.assertEquals("two", bean2.getName());
+        Assert.assertEquals(Collections.singletonList("one"), bean2.getNames());
+    }
+
     @Getter
     @RequiredArgsConstructor
     private static class Source {
@@ -72,6 +126,29 @@ public class DisorderedBeanOperationExecutorTest extends BaseExecutorTest {
         private NestedBean nestedBean;
     }
 
+    @Accessors(chain = true)
+    @Data
+    private static class MultiNestedBean {
+        @Disassemble(type = NestedBean.class)
+        private NestedBean first;
+        @Disassemble(type = Bean.class)
+        private Bean second;
+    }
+
+    @Accessors(chain = true)
+    @Data
+    private static class MergedBean {
+        @Assemble(container = "merged", props = @Mapping(ref = "name", src = "value"))
+        private Integer id;
+        private String name;
+        @Assemble(
+            container = "merged", props = @Mapping(ref = "names", src = "value"),
+            handler = "ManyToManyAssembleOperationHandler"
+        )
+        private List<Integer> ids;
+        private List<String> names;
+    }
+
     @Accessors(chain = true)
     @Data
     private static class NestedBean {
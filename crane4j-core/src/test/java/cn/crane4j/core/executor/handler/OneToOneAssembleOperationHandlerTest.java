@@ -8,6 +8,7 @@ import cn.crane4j.core.executor.BaseExecutorTest;
 import cn.crane4j.core.executor.BeanOperationExecutor;
 import cn.crane4j.core.executor.DisorderedBeanOperationExecutor;
 import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.support.converter.ConverterManager;
 import cn.crane4j.core.support.converter.HutoolConverterManager;
 import cn.crane4j.core.support.converter.SimpleConverterManager;
 import cn.crane4j.core.support.reflect.PropertyOperator;
@@ -20,8 +21,11 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -67,6 +71,32 @@ public class OneToOneAssembleOperationHandlerTest extends BaseExecutorTest {
         executor.execute(Collections.singletonList(new Bean(0L)), operations);
     }
 
+    @Test
+    public void prepareWhenGetSourcesFromContainerOverridden() {
+        ConverterManager converterManager = new HutoolConverterManager();
+        PropertyOperator operator = new ReflectivePropertyOperator(converterManager);
+        Container<Integer> container = configuration.getContainer("test");
+        OneToOneAssembleOperationHandler handler = new OneToOneAssembleOperationHandler(operator, converterManager);
+        Assert.assertNotNull(handler.prepare(container, Collections.emptyList()));
+
+        OneToOneAssembleOperationHandler overridden = new OneToOneAssembleOperationHandler(operator, converterManager) {
+            @Override
+            protected Map<Object, Object> getSourcesFromContainer(Container<?> container, Collection<Target> targets) {
+                Map<Object, Object> sources = new HashMap<>(super.getSourcesFromContainer(container, targets));
+                sources.replaceAll((k, v) -> new SourceBean((Integer)k, "overridden" + k, null));
+                return sources;
+            }
+        };
+        Assert.assertNull(overridden.prepare(container, Collections.emptyList()));
+        configuration.getAssembleOperationHandlerMap().put("OneToOneAssembleOperationHandler", overridden);
+
+        BeanOperations operations = parseOperations(Bean.class);
+        List<Bean> beanList = Arrays.asList(new Bean(1L), new Bean(2L));
+        executor.execute(beanList, operations);
+        Assert.assertEquals("overridden1", beanList.get(0).getName());
+        Assert.assertEquals("overridden2", beanList.get(1).getName());
+    }
+
     @Assemble(container = "identity", props = @Mapping(src = "id", ref = "otherId"))
     @RequiredArgsConstructor
     @AllArgsConstructor
@@ -4,12 +4,14 @@ import cn.crane4j.annotation.Disassemble;
 import cn.crane4j.core.executor.BaseExecutorTest;
 import cn.crane4j.core.parser.BeanOperations;
 import cn.crane4j.core.parser.operation.DisassembleOperation;
+import cn.crane4j.core.support.MethodInvoker;
 import cn.crane4j.core.support.converter.HutoolConverterManager;
 import cn.crane4j.core.support.reflect.ReflectivePropertyOperator;
 import cn.crane4j.core.util.CollectionUtils;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -19,13 +21,22 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * test for {@link ReflectiveDisassembleOperationHandler}
  *
  * @author huangchengxing
  */
+@Slf4j
 public class ReflectiveDisassembleOperationHandlerTest extends BaseExecutorTest {
 
     private ReflectiveDisassembleOperationHandler handler;
@@ -67,6 +78,92 @@ public class ReflectiveDisassembleOperationHandlerTest extends BaseExecutorTest
         checkDisassembledBeans(operationForBeanMultiList, root, 8);
     }
 
+    @Test
+    public void processNestedCollectionsInOrder() {
+        BeanOperations beanOperations = parseOperations(Bean.class);
+        DisassembleOperation operation = beanOperations.getDisassembleOperations().stream()
+            .filter(op -> "beanMultiList".equals(op.getKey()))
+            .findFirst().orElseThrow(IllegalStateException::new);
+
+        Bean b1 = new Bean(), b2 = new Bean(), b3 = new Bean(), b4 = new Bean(), b5 = new Bean();
+        Bean root1 = new Bean().setBeanMultiList(Arrays.asList(
+            Collections.singletonList(new Bean[]{ b1, null, b2 }), null, new LinkedList<>(Collections.singletonList(new Bean[]{ b3 }))
+        ));
+        Bean root2 = new Bean().setBeanMultiList(Collections.singletonList(Arrays.asList(new Bean[]{ b4 }, new Bean[]{ b5 })));
+        Collection<Object> results = handler.process(operation, new LinkedHashSet<>(Arrays.asList(root1, null, root2)));
+        Assert.assertEquals(Arrays.asList(b1, b2, b3, b4, b5), results);
+    }
+
+    /**
+     * Compare the flattening of handler with the previous implementation based on {@link LinkedList} deque
+     * on 200k nested objects, the results must be same, and the time costs are only logged
+     * because they are unstable in different environments.
+     */
+    @Test
+    public void compareFlatteningWithDeque() {
+        BeanOperations beanOperations = parseOperations(Bean.class);
+        DisassembleOperation operation = beanOperations.getDisassembleOperations().stream()
+            .filter(op -> "beanMultiList".equals(op.getKey()))
+            .findFirst().orElseThrow(IllegalStateException::new);
+        MethodInvoker getter = new ReflectivePropertyOperator(new HutoolConverterManager())
+            .findGetter(Bean.class, "beanMultiList");
+        List<Bean> roots = IntStream.range(0, 2000)
+            .mapToObj(i -> new Bean().setBeanMultiList(Arrays.asList(
+                Collections.singletonList(createBeans(50)), Arrays.asList(createBeans(25), createBeans(25))
+            )))
+            .collect(Collectors.toList());
+
+        // warm up, and make sure the results are same
+        for (int i = 0; i < 5; i++) {
+            Collection<Object> results = handler.process(operation, roots);
+            Assert.assertEquals(200000, results.size());
+            Assert.assertEquals(new HashSet<>(flattenByDeque(getter, roots)), new HashSet<>(results));
+        }
+        int rounds = 20;
+        long dequeTime = timeOf(rounds, () -> flattenByDeque(getter, roots));
+        long handlerTime = timeOf(rounds, () -> handler.process(operation, roots));
+        log.info(
+            "flatten {} nested objects for {} rounds: {} ms (deque: {} ms)",
+            200000, rounds, handlerTime, dequeTime
+        );
+    }
+
+    private static Bean[] createBeans(int size) {
+        Bean[] beans = new Bean[size];
+        for (int i = 0; i < size; i++) {
+            beans[i] = new Bean();
+        }
+        return beans;
+    }
+
+    private static List<Object> flattenByDeque(MethodInvoker getter, Collection<?> targets) {
+        Deque<Object> deque = targets.stream()
+            .filter(Objects::nonNull)
+            .map(getter::invoke)
+            .collect(Collectors.toCollection(LinkedList::new));
+        List<Object> result = new ArrayList<>();
+        while (!deque.isEmpty()) {
+            Object item = deque.removeFirst();
+            if (Objects.isNull(item)) {
+                continue;
+            }
+            if (item instanceof Collection || item.getClass().isArray()) {
+                deque.addAll(CollectionUtils.adaptObjectToCollection(item));
+            } else {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    private static long timeOf(int rounds, Runnable action) {
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            action.run();
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
     private void checkDisassembledBeans(DisassembleOperation operation, Object object, int expectedSize) {
         Collection<?> disassembledBeans = handler.process(operation, Collections.singleton(object));
         Assert.assertEquals(expectedSize, disassembledBeans.size());
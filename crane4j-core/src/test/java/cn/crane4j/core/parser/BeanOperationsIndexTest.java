@@ -0,0 +1,82 @@
+package cn.crane4j.core.parser;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * test for {@link BeanOperationsIndex}
+ *
+ * @author huangchengxing
+ */
+public class BeanOperationsIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void load() throws IOException {
+        File root = folder.newFolder("classes");
+        File index = new File(root, BeanOperationsIndex.INDEX_LOCATION);
+        Assert.assertTrue(index.getParentFile().mkdirs());
+        String content = Foo.class.getName() + "\n\n  " + String.class.getName() + "  \n";
+        Files.write(index.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{ root.toURI().toURL() }, null)) {
+            BeanOperationsIndex operationsIndex = BeanOperationsIndex.load(classLoader);
+            Assert.assertFalse(operationsIndex.isEmpty());
+            Assert.assertEquals(
+                new HashSet<>(Arrays.asList(Foo.class.getName(), String.class.getName())),
+                operationsIndex.getIndexedTypes()
+            );
+            Assert.assertTrue(operationsIndex.contains(Foo.class));
+            Assert.assertFalse(operationsIndex.contains(Bar.class));
+        }
+    }
+
+    @Test
+    public void loadWhenNoIndex() throws IOException {
+        File root = folder.newFolder("empty");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{ root.toURI().toURL() }, null)) {
+            Assert.assertTrue(BeanOperationsIndex.load(classLoader).isEmpty());
+        }
+    }
+
+    @Test
+    public void mayDeclareOperations() throws NoSuchFieldException, NoSuchMethodException {
+        BeanOperationsIndex operationsIndex = new BeanOperationsIndex(Collections.singleton(Foo.class.getName()));
+        Assert.assertTrue(operationsIndex.mayDeclareOperations(Foo.class));
+        Assert.assertFalse(operationsIndex.mayDeclareOperations(Bar.class));
+
+        Field field = Foo.class.getDeclaredField("id");
+        Assert.assertTrue(operationsIndex.mayDeclareOperations(field));
+        Method method = Bar.class.getDeclaredMethod("setId", Integer.class);
+        Assert.assertFalse(operationsIndex.mayDeclareOperations(method));
+        Parameter parameter = method.getParameters()[0];
+        Assert.assertFalse(operationsIndex.mayDeclareOperations(parameter));
+    }
+
+    @SuppressWarnings("unused")
+    private static class Foo {
+        private Integer id;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Bar {
+        public void setId(Integer id) {}
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * test for {@link BeanOperations.EmptyBeanOperations}
  *
@@ -54,6 +56,11 @@ public class EmptyBeanOperationsTest {
         Assert.assertTrue(this.operations.isActive());
     }
 
+    @Test
+    public void awaitActive() {
+        Assert.assertTrue(this.operations.awaitActive(0L, TimeUnit.MILLISECONDS));
+    }
+
     @Test
     public void isEmpty() {
         Assert.assertTrue(this.operations.isEmpty());
@@ -9,6 +9,9 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * test for {@link SimpleBeanOperations}
@@ -73,4 +76,25 @@ public class SimpleBeanOperationsTest {
         Assert.assertTrue(operations.isActive());
     }
 
+    @Test
+    public void awaitActive() throws InterruptedException {
+        Assert.assertFalse(operations.awaitActive(10L, TimeUnit.MILLISECONDS));
+
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean result = new AtomicBoolean(false);
+        Thread waiter = new Thread(() -> {
+            started.countDown();
+            result.set(operations.awaitActive(10L, TimeUnit.SECONDS));
+        });
+        waiter.start();
+        started.await();
+        operations.setActive(true);
+        waiter.join(5000L);
+        Assert.assertTrue(result.get());
+        Assert.assertTrue(operations.awaitActive(0L, TimeUnit.MILLISECONDS));
+
+        // inactive again
+        operations.setActive(false);
+        Assert.assertFalse(operations.awaitActive(10L, TimeUnit.MILLISECONDS));
+    }
 }
@@ -6,6 +6,7 @@ import cn.crane4j.annotation.Mapping;
 import cn.crane4j.annotation.MappingTemplate;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.LambdaContainer;
+import cn.crane4j.core.exception.OperationParseException;
 import cn.crane4j.core.executor.handler.DisassembleOperationHandler;
 import cn.crane4j.core.executor.handler.OneToOneAssembleOperationHandler;
 import cn.crane4j.core.executor.handler.ReflectiveDisassembleOperationHandler;
@@ -23,10 +24,16 @@ import org.junit.Test;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -91,6 +98,85 @@ public class TypeHierarchyBeanOperationParserTest {
         checkNestedBean(nestedBeanOperations, beanOperations);
     }
 
+    @Test
+    public void parseWithOperationsIndex() {
+        TypeHierarchyBeanOperationParser currentParser = (TypeHierarchyBeanOperationParser)parser;
+        // only operations declared in BaseBean will be resolved
+        currentParser.setOperationsIndex(new BeanOperationsIndex(Collections.singleton(BaseBean.class.getName())));
+        BeanOperations beanOperations = currentParser.parse(Bean.class);
+        Assert.assertTrue(beanOperations.isActive());
+        Assert.assertEquals(1, beanOperations.getAssembleOperations().size());
+        checkAssembleOperation(CollectionUtils.get(beanOperations.getAssembleOperations(), 0), "id", SUP_SORT);
+        Assert.assertTrue(beanOperations.getDisassembleOperations().isEmpty());
+
+        // no operations will be resolved if the type is not in index
+        Assert.assertTrue(currentParser.parse(MappingTemp.class).isEmpty());
+
+        // empty index will be ignored
+        currentParser.setOperationsIndex(new BeanOperationsIndex(Collections.emptySet()));
+        Assert.assertNull(currentParser.operationsIndex);
+    }
+
+    @Test(timeout = 10000L)
+    public void parseConcurrently() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < 20; i++) {
+                BeanOperationParser currentParser = SimpleCrane4jGlobalConfiguration.create()
+                    .getBeanOperationsParser(null, BeanOperationParser.class);
+                CountDownLatch ready = new CountDownLatch(threads);
+                List<Future<BeanOperations>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    // Bean and NestedBean reference each other
+                    Class<?> type = (t & 1) == 0 ? Bean.class : NestedBean.class;
+                    futures.add(executor.submit(() -> {
+                        ready.countDown();
+                        ready.await();
+                        return currentParser.parse(type);
+                    }));
+                }
+                for (int t = 0; t < threads; t++) {
+                    BeanOperations operations = futures.get(t).get();
+                    Assert.assertTrue(operations.isActive());
+                    Assert.assertSame(operations, currentParser.parse(operations.getSource()));
+                    Assert.assertEquals(2, operations.getAssembleOperations().size());
+                }
+                BeanOperations nestedBeanOperations = currentParser.parse(NestedBean.class);
+                DisassembleOperation bean = CollectionUtils.get(nestedBeanOperations.getDisassembleOperations(), 0);
+                Assert.assertNotNull(bean);
+                Assert.assertSame(currentParser.parse(Bean.class), bean.getInternalBeanOperations(null));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void parseWhenFailed() {
+        TypeHierarchyBeanOperationParser currentParser = new TypeHierarchyBeanOperationParser();
+        List<BeanOperations> earlyReferences = new ArrayList<>();
+        currentParser.addOperationAnnotationHandler((p, operations) -> {
+            if (operations.getSource() == MappingTemp.class && earlyReferences.isEmpty()) {
+                // get early reference of the element in parsing, then fail
+                earlyReferences.add(p.parse(MappingTemp.class));
+                Assert.assertSame(earlyReferences.get(0), currentParser.currentlyInParsing.get(MappingTemp.class));
+                throw new IllegalStateException("failed");
+            }
+        });
+        Assert.assertThrows(OperationParseException.class, () -> currentParser.parse(MappingTemp.class));
+        // the early reference will be activated to avoid waiting for it
+        Assert.assertEquals(1, earlyReferences.size());
+        Assert.assertTrue(earlyReferences.get(0).isActive());
+        Assert.assertTrue(currentParser.currentlyInParsing.isEmpty());
+
+        // the element can be parsed again
+        BeanOperations operations = currentParser.parse(MappingTemp.class);
+        Assert.assertTrue(operations.isActive());
+        Assert.assertNotSame(earlyReferences.get(0), operations);
+        Assert.assertSame(operations, currentParser.parse(MappingTemp.class));
+    }
+
     /**
      * 校验 Bean 中的 nestedBean 属性的配置
      */
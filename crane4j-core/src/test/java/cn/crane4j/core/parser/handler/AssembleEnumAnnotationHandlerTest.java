@@ -62,6 +62,8 @@ public class AssembleEnumAnnotationHandlerTest {
         Assert.assertFalse(mapping.hasSource());
         Assert.assertEquals("cnName", mapping.getReference());
         Container<Integer> container = configuration.getContainer(operationOfCnName.getContainer());
+        Assert.assertNotNull(operationOfCnName.getContainerHandle());
+        Assert.assertSame(container, operationOfCnName.getContainerHandle().getContainer());
         Map<Integer, ?> sources = container.get(Arrays.asList(0, 1));
         Assert.assertEquals("女", sources.get(0));
         Assert.assertEquals("男", sources.get(1));
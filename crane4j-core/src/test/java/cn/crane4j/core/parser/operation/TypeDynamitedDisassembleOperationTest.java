@@ -1,13 +1,19 @@
 package cn.crane4j.core.parser.operation;
 
 import cn.crane4j.core.parser.BeanOperationParser;
+import cn.crane4j.core.parser.BeanOperations;
 import cn.crane4j.core.parser.SimpleBeanOperations;
+import cn.crane4j.core.support.SimpleTypeResolver;
 import cn.crane4j.core.support.TypeResolver;
+import cn.crane4j.core.util.MultiMap;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * test for {@link TypeDynamitedDisassembleOperation}
@@ -40,6 +46,73 @@ public class TypeDynamitedDisassembleOperationTest {
         Assert.assertEquals(String.class, operation.getInternalBeanOperations("str").getSource());
     }
 
+    @Test
+    public void groupByInternalBeanOperations() {
+        AtomicInteger parseCount = new AtomicInteger(0);
+        TypeDynamitedDisassembleOperation op = new TypeDynamitedDisassembleOperation(
+            "key", Object.class, null, type -> {
+                parseCount.incrementAndGet();
+                SimpleBeanOperations operations = new SimpleBeanOperations(type);
+                operations.setActive(true);
+                return operations;
+            }, new SimpleTypeResolver()
+        );
+        MultiMap<BeanOperations, Object> groups = op.groupByInternalBeanOperations(
+            Arrays.asList(BigDecimal.ONE, "a", null, BigDecimal.TEN, "b")
+        );
+        Assert.assertEquals(2, groups.keySet().size());
+        Assert.assertEquals(2, parseCount.get());
+        groups.asMap().forEach((operations, beans) -> {
+            Class<?> type = (Class<?>)operations.getSource();
+            Assert.assertEquals(2, beans.size());
+            beans.forEach(bean -> Assert.assertEquals(type, bean.getClass()));
+        });
+
+        // resolved operations are cached by type
+        op.groupByInternalBeanOperations(Arrays.asList("c", BigDecimal.ZERO));
+        Assert.assertEquals(2, parseCount.get());
+    }
+
+    @Test
+    public void groupByInternalBeanOperationsWithCustomResolver() {
+        AtomicInteger parseCount = new AtomicInteger(0);
+        // the type depends on the state of object
+        TypeResolver resolver = bean -> bean instanceof String && ((String)bean).isEmpty() ? null : bean.getClass();
+        TypeDynamitedDisassembleOperation op = new TypeDynamitedDisassembleOperation(
+            "key", Object.class, null, type -> {
+                parseCount.incrementAndGet();
+                SimpleBeanOperations operations = new SimpleBeanOperations(type);
+                operations.setActive(true);
+                return operations;
+            }, resolver
+        );
+        MultiMap<BeanOperations, Object> groups = op.groupByInternalBeanOperations(Arrays.asList("", "a", ""));
+        Assert.assertEquals(1, parseCount.get());
+        Assert.assertEquals(Arrays.asList("", ""), groups.get(BeanOperations.empty()));
+
+        // resolve type for each object, but the operations are cached by the resolved type
+        groups = op.groupByInternalBeanOperations(Arrays.asList("b", "", BigDecimal.ONE));
+        Assert.assertEquals(2, parseCount.get());
+        Assert.assertEquals(Collections.singletonList(""), groups.get(BeanOperations.empty()));
+        op.groupByInternalBeanOperations(Arrays.asList("c", BigDecimal.TEN));
+        Assert.assertEquals(2, parseCount.get());
+    }
+
+    @Test
+    public void groupByInternalBeanOperationsWhenParsing() {
+        AtomicInteger parseCount = new AtomicInteger(0);
+        TypeDynamitedDisassembleOperation op = new TypeDynamitedDisassembleOperation(
+            "key", Object.class, null, type -> {
+                parseCount.incrementAndGet();
+                return new SimpleBeanOperations(type);
+            }, TYPE_RESOLVER
+        );
+        // the early reference of operations which is still in parsing is not cached
+        op.groupByInternalBeanOperations(Arrays.asList("a", "b"));
+        op.groupByInternalBeanOperations(Collections.singletonList("c"));
+        Assert.assertEquals(2, parseCount.get());
+    }
+
     @Test
     public void getDisassembleOperationHandler() {
         Assert.assertNull(operation.getDisassembleOperationHandler());
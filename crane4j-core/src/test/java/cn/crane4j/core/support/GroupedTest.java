@@ -5,6 +5,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -43,6 +44,24 @@ public class GroupedTest {
         Assert.assertFalse(Grouped.anyMatch("1", "2").test(new Foo("3")));
     }
 
+    @Test
+    public void equalsAndNegate() {
+        Assert.assertEquals(Grouped.alwaysMatch(), Grouped.alwaysMatch());
+        Assert.assertEquals(Grouped.allMatch(), Grouped.alwaysMatch());
+        Assert.assertEquals(Grouped.anyMatch("1", "2"), Grouped.anyMatch("2", "1"));
+        Assert.assertEquals(Grouped.anyMatch("1", "2").hashCode(), Grouped.anyMatch("2", "1").hashCode());
+        Assert.assertNotEquals(Grouped.anyMatch("1"), Grouped.noneMatch("1"));
+        Assert.assertNotEquals(Grouped.anyMatch("1"), Grouped.allMatch("1"));
+
+        Assert.assertEquals(Grouped.noneMatch("1"), Grouped.anyMatch("1").negate());
+        Assert.assertEquals(Grouped.anyMatch("1"), Grouped.noneMatch("1").negate());
+        Assert.assertEquals(Grouped.alwaysNoneMatch(), Grouped.alwaysMatch().negate());
+        Predicate<Grouped> negated = Grouped.allMatch("1", "2").negate();
+        Assert.assertFalse(negated instanceof GroupFilter);
+        Assert.assertTrue(negated.test(new Foo("1")));
+        Assert.assertFalse(negated.test(new Foo("1", "2")));
+    }
+
     @Test
     public void getGroups() {
         Assert.assertTrue(new Empty().getGroups().isEmpty());
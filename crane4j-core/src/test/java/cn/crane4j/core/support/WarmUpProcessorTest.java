@@ -0,0 +1,93 @@
+package cn.crane4j.core.support;
+
+import cn.crane4j.annotation.Assemble;
+import cn.crane4j.annotation.Mapping;
+import cn.crane4j.annotation.Operator;
+import cn.crane4j.core.container.Containers;
+import cn.crane4j.core.parser.BeanOperationParser;
+import cn.crane4j.core.support.converter.SimpleConverterManager;
+import cn.crane4j.core.support.operator.DefaultOperatorProxyMethodFactory;
+import cn.crane4j.core.support.operator.OperatorProxyFactory;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * test for {@link WarmUpProcessor}
+ *
+ * @author huangchengxing
+ */
+public class WarmUpProcessorTest {
+
+    private SimpleCrane4jGlobalConfiguration configuration;
+    private OperatorProxyFactory operatorProxyFactory;
+    private AtomicInteger createdContainers;
+
+    @Before
+    public void init() {
+        configuration = SimpleCrane4jGlobalConfiguration.create();
+        createdContainers = new AtomicInteger(0);
+        configuration.registerContainer("test", () -> {
+            createdContainers.incrementAndGet();
+            return Containers.forLambda("test", ids -> Collections.emptyMap());
+        });
+        operatorProxyFactory = new OperatorProxyFactory(configuration, new SimpleAnnotationFinder());
+        operatorProxyFactory.addProxyMethodFactory(new DefaultOperatorProxyMethodFactory(new SimpleConverterManager()));
+    }
+
+    @Test
+    public void warmUp() {
+        WarmUpProcessor processor = new WarmUpProcessor(
+            Collections.singletonList(configuration.getBeanOperationsParser(null, BeanOperationParser.class)),
+            configuration, configuration.getPropertyOperator(), operatorProxyFactory
+        );
+        processor.setParallelism(2);
+        WarmUpProcessor.Report report = processor.warmUp(Arrays.asList(Foo.class, FooOperator.class));
+        Assert.assertEquals(1, report.getContainers());
+        Assert.assertEquals(1, createdContainers.get());
+        Assert.assertEquals(1, report.getParsedTypes());
+        // getter of id and setter of name
+        Assert.assertEquals(2, report.getAccessors());
+        Assert.assertEquals(1, report.getOperatorProxies());
+        Assert.assertEquals(0, report.getFailures());
+        Assert.assertTrue(report.getElapsedMillis() >= 0);
+
+        // container is created only once
+        Assert.assertNotNull(configuration.getContainer("test"));
+        Assert.assertEquals(1, createdContainers.get());
+    }
+
+    @Test
+    public void warmUpWhenFailed() {
+        configuration.registerContainer("failed", () -> {
+            throw new IllegalStateException("failed");
+        });
+        WarmUpProcessor processor = new WarmUpProcessor(
+            Collections.emptyList(), configuration, configuration.getPropertyOperator(), null
+        );
+        WarmUpProcessor.Report report = processor.warmUp(Collections.singletonList(FooOperator.class));
+        Assert.assertEquals(1, report.getContainers());
+        Assert.assertEquals(0, report.getOperatorProxies());
+        Assert.assertEquals(1, report.getFailures());
+    }
+
+    @Data
+    private static class Foo {
+        @Assemble(container = "test", props = @Mapping(src = "name", ref = "name"))
+        private Integer id;
+        private String name;
+    }
+
+    @Operator
+    private interface FooOperator {
+        @Assemble(key = "id", container = "test", props = @Mapping(ref = "name"))
+        void fill(Collection<Map<String, Object>> targets);
+    }
+}
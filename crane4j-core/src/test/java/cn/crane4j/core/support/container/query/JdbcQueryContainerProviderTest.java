@@ -0,0 +1,120 @@
+package cn.crane4j.core.support.container.query;
+
+import cn.crane4j.core.container.Container;
+import cn.crane4j.core.exception.Crane4jException;
+import cn.crane4j.core.support.container.MethodInvokerContainerCreator;
+import cn.crane4j.core.support.converter.ConverterManager;
+import cn.crane4j.core.support.converter.HutoolConverterManager;
+import cn.crane4j.core.support.reflect.MapAccessiblePropertyOperator;
+import cn.crane4j.core.support.reflect.ReflectivePropertyOperator;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * test for {@link JdbcQueryContainerProvider}
+ *
+ * @author huangchengxing
+ */
+public class JdbcQueryContainerProviderTest {
+
+    private JdbcQueryContainerProvider provider;
+
+    @Before
+    public void init() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:crane4j_jdbc_test;DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_user");
+            statement.execute("CREATE TABLE t_user (user_id INT PRIMARY KEY, user_name VARCHAR(32), user_age INT)");
+            for (int i = 1; i <= 20; i++) {
+                statement.execute("INSERT INTO t_user VALUES (" + i + ", 'user" + i + "', " + (i + 10) + ")");
+            }
+        }
+        ConverterManager converterManager = new HutoolConverterManager();
+        MethodInvokerContainerCreator creator = new MethodInvokerContainerCreator(
+            new MapAccessiblePropertyOperator(new ReflectivePropertyOperator(converterManager)), converterManager
+        );
+        provider = new JdbcQueryContainerProvider(creator, dataSource);
+        provider.setMaxKeysPerQuery(4);
+        provider.setFetchSize(16);
+    }
+
+    @Test
+    public void registerTable() {
+        provider.registerTable("user", "t_user", "user_id");
+        AbstractQueryContainerProvider.Repository<JdbcQueryContainerProvider.Table> repository = provider.getRepository("user");
+        Assert.assertNotNull(repository);
+        Assert.assertEquals("userId", repository.getKeyProperty());
+        Assert.assertEquals(QueryRow.class, repository.getEntityType());
+        Assert.assertEquals("USER_NAME", repository.propertyToQueryColumn("userName", null));
+
+        Assert.assertThrows(Crane4jException.class, () -> provider.registerTable("none", "t_none", "id"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void query() {
+        provider.registerTable("user", "t_user", "user_id");
+        Container<Object> container = provider.getQueryContainer("user", null, Collections.singletonList("userName"));
+        Assert.assertNotNull(container);
+
+        List<Object> keys = IntStream.rangeClosed(1, 10).boxed().collect(Collectors.toList());
+        keys.add(21);
+        Map<Object, ?> results = container.get(keys);
+        Assert.assertEquals(10, results.size());
+        QueryRow row = (QueryRow) results.get(7);
+        Assert.assertNotNull(row);
+        Assert.assertEquals(Arrays.asList("userName", "userId"), row.getHeader().getProperties());
+        Assert.assertEquals("user7", row.get("userName"));
+        Assert.assertEquals(7, row.get("userId"));
+        Assert.assertFalse(row.containsKey("userAge"));
+
+        Assert.assertTrue(container.get(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void queryWithoutSplitting() {
+        provider.setMaxKeysPerQuery(0);
+        provider.registerTable("user", "t_user", "user_id");
+        Container<Object> container = provider.getQueryContainer("user", null, Collections.singletonList("userName"));
+        Assert.assertNotNull(container);
+        List<Object> keys = IntStream.rangeClosed(1, 10).boxed().collect(Collectors.toList());
+        Assert.assertEquals(10, container.get(keys).size());
+        Assert.assertEquals(7, container.get(keys.subList(0, 7)).size());
+
+        // keys are still padded, so only a few sizes of sql are generated
+        List<List<Object>> chunks = AbstractQueryContainerProvider.splitKeys(keys, Integer.MAX_VALUE);
+        Assert.assertEquals(1, chunks.size());
+        Assert.assertEquals(16, chunks.get(0).size());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void queryAllColumns() {
+        Map<String, String> columns = new LinkedHashMap<>();
+        columns.put("id", "user_id");
+        columns.put("name", "user_name");
+        provider.registerRepository("user", new JdbcQueryContainerProvider.Table("t_user", "user_id", columns));
+        Container<Object> container = provider.getQueryContainer("user", "id", null);
+        Assert.assertNotNull(container);
+
+        Map<Object, ?> results = container.get(Arrays.asList(1, 2, 3));
+        Assert.assertEquals(3, results.size());
+        QueryRow row = (QueryRow) results.get(2);
+        Assert.assertEquals(Arrays.asList("id", "name"), row.getHeader().getProperties());
+        Assert.assertEquals("user2", row.get("name"));
+    }
+}
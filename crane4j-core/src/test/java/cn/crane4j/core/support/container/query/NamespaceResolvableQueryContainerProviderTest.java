@@ -1,6 +1,9 @@
 package cn.crane4j.core.support.container.query;
 
 import cn.crane4j.annotation.MappingType;
+import cn.crane4j.core.exception.Crane4jException;
+import cn.crane4j.core.parser.PropertyMapping;
+import cn.crane4j.core.parser.SimplePropertyMapping;
 import cn.crane4j.core.support.MethodInvoker;
 import cn.crane4j.core.support.container.MethodInvokerContainerCreator;
 import cn.crane4j.core.support.converter.ConverterManager;
@@ -93,6 +96,67 @@ public class NamespaceResolvableQueryContainerProviderTest {
         Assert.assertTrue(containerCreator.registeredRepositories.isEmpty());
     }
 
+    @Test
+    public void determineQueryProperties() {
+        containerCreator.registerRepository("test", new Entity());
+        List<PropertyMapping> mappings = Arrays.asList(
+            new SimplePropertyMapping("name", "userName"), new SimplePropertyMapping("age.value", "userAge")
+        );
+        // disabled by default
+        Assert.assertFalse(containerCreator.isEnableProjectionPruning());
+        Assert.assertNull(containerCreator.determineQueryProperties("test", null, mappings));
+        containerCreator.setEnableProjectionPruning(true);
+
+        mappings = Arrays.asList(
+            new SimplePropertyMapping("name", "userName"), new SimplePropertyMapping("age.value", "userAge")
+        );
+        // use specified properties
+        Assert.assertEquals(
+            Collections.singletonList("id"),
+            containerCreator.determineQueryProperties("test", Collections.singletonList("id"), mappings)
+        );
+        // derive properties from mappings
+        Assert.assertEquals(
+            Arrays.asList("age", "name"),
+            containerCreator.determineQueryProperties("test", Collections.emptyList(), mappings)
+        );
+        // repository not found
+        Assert.assertNull(containerCreator.determineQueryProperties("none", null, mappings));
+        // no mappings
+        Assert.assertNull(containerCreator.determineQueryProperties("test", null, Collections.emptyList()));
+        // mapping whole object
+        Assert.assertNull(containerCreator.determineQueryProperties(
+            "test", null, Collections.singletonList(new SimplePropertyMapping("", "entity"))
+        ));
+        // unknown column
+        Assert.assertNull(containerCreator.determineQueryProperties(
+            "test", null, Collections.singletonList(new SimplePropertyMapping("nickName", "nickName"))
+        ));
+        // disabled
+        containerCreator.setEnableProjectionPruning(false);
+        Assert.assertNull(containerCreator.determineQueryProperties("test", null, mappings));
+    }
+
+    @Test
+    public void splitKeys() {
+        List<List<Object>> chunks = AbstractQueryContainerProvider.splitKeys(Arrays.asList(1, 2, 3, 4, 5, 6, 7), 4);
+        Assert.assertEquals(2, chunks.size());
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 4), chunks.get(0));
+        Assert.assertEquals(Arrays.asList(5, 6, 7, 7), chunks.get(1));
+
+        chunks = AbstractQueryContainerProvider.splitKeys(Arrays.asList(1, 2, 3, 4, 5, 6, 7), 6);
+        Assert.assertEquals(2, chunks.size());
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6), chunks.get(0));
+        Assert.assertEquals(Collections.singletonList(7), chunks.get(1));
+
+        chunks = AbstractQueryContainerProvider.splitKeys(Arrays.asList(1, 2, 3), 500);
+        Assert.assertEquals(1, chunks.size());
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 3), chunks.get(0));
+
+        List<Integer> keys = Arrays.asList(1, 2, 3);
+        Assert.assertThrows(Crane4jException.class, () -> AbstractQueryContainerProvider.splitKeys(keys, 0));
+    }
+
     private void checkRecorder(
         Recorder recorder, AbstractQueryContainerProvider.Repository<Object> repository,
         String keyProperty, List<String> properties) {
@@ -0,0 +1,61 @@
+package cn.crane4j.core.support.container.query;
+
+import cn.crane4j.core.exception.Crane4jException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * test for {@link QueryRow}
+ *
+ * @author huangchengxing
+ */
+public class QueryRowTest {
+
+    private static final QueryRow.Header HEADER = new QueryRow.Header(Arrays.asList("id", "userName", "age"));
+
+    @Test
+    public void header() {
+        Assert.assertEquals(3, HEADER.size());
+        Assert.assertEquals(Arrays.asList("id", "userName", "age"), HEADER.getProperties());
+        Assert.assertEquals(1, HEADER.indexOf("userName"));
+        Assert.assertEquals(-1, HEADER.indexOf("USERNAME"));
+        Assert.assertEquals(1, HEADER.indexOfLabel("USERNAME"));
+        Assert.assertEquals(-1, HEADER.indexOfLabel("name"));
+    }
+
+    @Test
+    public void createRow() {
+        Map<String, Object> columns = new HashMap<>();
+        columns.put("ID", 1);
+        columns.put("username", "foo");
+        columns.put("unknown", "unknown");
+        QueryRow row = HEADER.createRow(columns);
+        Assert.assertSame(HEADER, row.getHeader());
+        Assert.assertEquals(3, row.size());
+        Assert.assertEquals(1, row.get("id"));
+        Assert.assertEquals("foo", row.get("userName"));
+        Assert.assertEquals("foo", row.get(1));
+        Assert.assertNull(row.get("age"));
+        Assert.assertNull(row.get("unknown"));
+        Assert.assertTrue(row.containsKey("age"));
+        Assert.assertFalse(row.containsKey("unknown"));
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("id", 1);
+        expected.put("userName", "foo");
+        expected.put("age", null);
+        Assert.assertEquals(expected, row);
+        Assert.assertThrows(UnsupportedOperationException.class, () -> row.put("age", 18));
+    }
+
+    @Test
+    public void createRowWhenValuesNotMatch() {
+        Object[] values = new Object[] {1, "foo"};
+        Assert.assertThrows(Crane4jException.class, () -> new QueryRow(HEADER, values));
+    }
+}
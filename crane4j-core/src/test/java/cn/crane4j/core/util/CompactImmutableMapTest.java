@@ -0,0 +1,89 @@
+package cn.crane4j.core.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * test for {@link CompactImmutableMap}
+ *
+ * @author huangchengxing
+ */
+public class CompactImmutableMapTest {
+
+    @Test
+    public void copyOf() {
+        Map<String, Integer> source = new LinkedHashMap<>();
+        source.put("c", 3);
+        source.put("a", 1);
+        source.put("b", 2);
+        CompactImmutableMap<String, Integer> map = CompactImmutableMap.copyOf(source);
+        Assert.assertEquals(source, map);
+        Assert.assertEquals(source.hashCode(), map.hashCode());
+        Assert.assertSame(map, CompactImmutableMap.copyOf(map));
+        // keep insertion order
+        Assert.assertEquals(Arrays.asList("c", "a", "b"), new ArrayList<>(map.keySet()));
+        Assert.assertEquals(Arrays.asList(3, 1, 2), new ArrayList<>(map.values()));
+        List<String> keys = new ArrayList<>();
+        map.forEach((k, v) -> keys.add(k));
+        Assert.assertEquals(Arrays.asList("c", "a", "b"), keys);
+
+        // not affected by source
+        source.put("d", 4);
+        Assert.assertEquals(3, map.size());
+        Assert.assertFalse(map.containsKey("d"));
+    }
+
+    @Test
+    public void get() {
+        Map<Object, Object> source = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            source.put(i, "v" + i);
+        }
+        source.put(null, "null");
+        source.put("nullValue", null);
+        CompactImmutableMap<Object, Object> map = CompactImmutableMap.copyOf(source);
+        Assert.assertEquals(1002, map.size());
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals("v" + i, map.get(i));
+        }
+        Assert.assertEquals("null", map.get(null));
+        Assert.assertTrue(map.containsKey("nullValue"));
+        Assert.assertNull(map.get("nullValue"));
+        Assert.assertNull(map.getOrDefault("nullValue", "default"));
+        Assert.assertEquals("default", map.getOrDefault(1000, "default"));
+        Assert.assertNull(map.get(1000));
+        Assert.assertFalse(map.containsKey(1000));
+        Assert.assertTrue(map.containsValue("v999"));
+        Assert.assertFalse(map.containsValue("v1000"));
+    }
+
+    @Test
+    public void empty() {
+        CompactImmutableMap<Object, Object> map = CompactImmutableMap.copyOf(Collections.emptyMap());
+        Assert.assertTrue(map.isEmpty());
+        Assert.assertNull(map.get("a"));
+        Assert.assertFalse(map.containsKey(null));
+        Assert.assertFalse(map.entrySet().iterator().hasNext());
+
+        map = CompactImmutableMap.copyOf(Collections.singletonMap("a", 1));
+        Assert.assertEquals(1, map.get("a"));
+        Assert.assertNull(map.get("b"));
+    }
+
+    @Test
+    public void unmodifiable() {
+        CompactImmutableMap<String, Integer> map = CompactImmutableMap.copyOf(Collections.singletonMap("a", 1));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> map.put("b", 2));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+        Assert.assertThrows(UnsupportedOperationException.class, map::clear);
+        Assert.assertThrows(UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue(2));
+    }
+}
@@ -0,0 +1,115 @@
+package cn.crane4j.core.util;
+
+import cn.crane4j.core.exception.Crane4jException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * test for {@link EnumIndexedMap}
+ *
+ * @author huangchengxing
+ */
+public class EnumIndexedMapTest {
+
+    @Test
+    public void of() {
+        Map<Object, Object> data = new LinkedHashMap<>();
+        Assert.assertThrows(Crane4jException.class, () -> EnumIndexedMap.of(Gender.class, data, new Object[0]));
+    }
+
+    @Test
+    public void lookupByName() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        Object[] keys = new Object[Gender.values().length];
+        for (Gender gender : Gender.values()) {
+            data.put(gender.name(), gender.getLabel());
+            keys[gender.ordinal()] = gender.name();
+        }
+        EnumIndexedMap<String, Object> map = EnumIndexedMap.of(Gender.class, data, keys);
+        Assert.assertEquals(data, map);
+        Assert.assertEquals(3, map.size());
+        Assert.assertTrue(map.containsValue("female"));
+
+        Assert.assertEquals("male", map.get("MALE"));
+        Assert.assertTrue(map.containsKey("FEMALE"));
+        Assert.assertNull(map.get(1));
+        Assert.assertNull(map.get(Status.ENABLE));
+
+        // enum constants are not keys of map
+        Assert.assertNull(map.get(Gender.MALE));
+        Assert.assertFalse(map.containsKey(Gender.FEMALE));
+        Assert.assertEquals("male", map.getByConstant(Gender.MALE));
+        Assert.assertEquals("unknown", map.getByConstant(Gender.UNKNOWN));
+        Assert.assertNull(map.getByConstant(Status.ENABLE));
+        Assert.assertNull(map.getByConstant(null));
+        Assert.assertFalse(map.containsKey("NONE"));
+    }
+
+    @Test
+    public void lookupByCode() {
+        Map<Integer, Object> data = new LinkedHashMap<>();
+        Object[] keys = new Object[Gender.values().length];
+        for (Gender gender : Gender.values()) {
+            data.put(gender.getCode(), gender.getLabel());
+            keys[gender.ordinal()] = gender.getCode();
+        }
+        EnumIndexedMap<Integer, Object> map = EnumIndexedMap.of(Gender.class, data, keys);
+        Assert.assertEquals("female", map.get(-1));
+        Assert.assertEquals("unknown", map.get(0));
+        Assert.assertEquals("male", map.get(1));
+        Assert.assertNull(map.get(2));
+        Assert.assertNull(map.get(-2));
+        Assert.assertNull(map.get("1"));
+        Assert.assertNull(map.get(Gender.MALE));
+        Assert.assertEquals("male", map.getByConstant(Gender.MALE));
+
+        // the codes are too sparse to be indexed
+        data.clear();
+        data.put(Integer.MIN_VALUE, "min");
+        data.put(Integer.MAX_VALUE, "max");
+        map = EnumIndexedMap.of(Status.class, data, new Object[]{ Integer.MIN_VALUE, Integer.MAX_VALUE });
+        Assert.assertEquals("min", map.get(Integer.MIN_VALUE));
+        Assert.assertEquals("max", map.get(Integer.MAX_VALUE));
+        Assert.assertEquals("max", map.getByConstant(Status.DISABLE));
+        Assert.assertNull(map.get(0));
+    }
+
+    @Test
+    public void lookupByConstant() {
+        Map<Gender, Object> data = new LinkedHashMap<>();
+        for (Gender gender : Gender.values()) {
+            data.put(gender, gender.getLabel());
+        }
+        EnumIndexedMap<Gender, Object> map = EnumIndexedMap.of(Gender.class, data, Gender.values());
+        Assert.assertEquals("male", map.get(Gender.MALE));
+        Assert.assertEquals("female", map.get(Gender.FEMALE));
+        Assert.assertTrue(map.containsKey(Gender.UNKNOWN));
+        Assert.assertFalse(map.containsKey("UNKNOWN"));
+        Assert.assertNull(map.get(Status.ENABLE));
+        Assert.assertEquals("female", map.getByConstant(Gender.FEMALE));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private enum Gender {
+        MALE(1, "male"),
+        FEMALE(-1, "female") {
+            @Override
+            public String toString() {
+                return "female";
+            }
+        },
+        UNKNOWN(0, "unknown");
+        private final int code;
+        private final String label;
+    }
+
+    private enum Status {
+        ENABLE, DISABLE
+    }
+}
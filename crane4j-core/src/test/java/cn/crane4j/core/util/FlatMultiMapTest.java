@@ -0,0 +1,120 @@
+package cn.crane4j.core.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * test for {@link FlatMultiMap}
+ *
+ * @author huangchengxing
+ */
+public class FlatMultiMapTest {
+
+    @Test
+    public void testFactoryMethod() {
+        MultiMap<String, String> multiMap = MultiMap.flatMultimap();
+        multiMap.putAll("a", Arrays.asList("1", "2"));
+        Assert.assertTrue(multiMap instanceof FlatMultiMap);
+        Assert.assertTrue(multiMap.get("a") instanceof ArrayList);
+    }
+
+    @Test
+    public void testOperate() {
+        MultiMap<String, String> multiMap = new FlatMultiMap<>(1);
+        Assert.assertTrue(multiMap.isEmpty());
+        Assert.assertTrue(multiMap.put("a", "1"));
+        Assert.assertTrue(multiMap.put("a", "2"));
+        multiMap.putAll("b", Arrays.asList("3", "4"));
+        multiMap.putAll("c", () -> Collections.singletonList("5").iterator());
+
+        Assert.assertFalse(multiMap.isEmpty());
+        Assert.assertEquals(3, multiMap.size());
+        Assert.assertEquals(Arrays.asList("1", "2"), multiMap.get("a"));
+        Assert.assertEquals(Arrays.asList("3", "4"), multiMap.get("b"));
+        Assert.assertEquals(Collections.singletonList("5"), multiMap.get("c"));
+        Assert.assertEquals(Arrays.asList("1", "2", "3", "4", "5"), multiMap.values());
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(multiMap.keySet()));
+        Assert.assertEquals(5, multiMap.entries().size());
+        Assert.assertEquals(3, multiMap.asMap().size());
+        Assert.assertEquals(2, multiMap.asMap().get("a").size());
+        Assert.assertNull(multiMap.asMap().get("d"));
+
+        // after remove
+        Assert.assertEquals(Arrays.asList("1", "2"), multiMap.removeAll("a"));
+        Assert.assertTrue(multiMap.removeAll("a").isEmpty());
+        Assert.assertFalse(multiMap.containsKey("a"));
+        Assert.assertTrue(multiMap.containsKey("b"));
+        Assert.assertEquals(2, multiMap.size());
+        Assert.assertEquals(0, multiMap.get("a").size());
+        Assert.assertEquals(Arrays.asList("b", "c"), new ArrayList<>(multiMap.keySet()));
+
+        // after clear
+        multiMap.clear();
+        Assert.assertTrue(multiMap.isEmpty());
+        Assert.assertFalse(multiMap.containsKey("b"));
+
+        // test foreach
+        multiMap.putAll("a", Arrays.asList("1", "2"));
+        multiMap.putAll("b", Arrays.asList("3", "4"));
+        List<String> values = new ArrayList<>();
+        multiMap.forEach((k, v) -> values.add(k + v));
+        Assert.assertEquals(Arrays.asList("a1", "a2", "b3", "b4"), values);
+
+        MultiMap<String, String> multiMap2 = MultiMap.linkedHashMultimap();
+        multiMap2.putAll("c", Arrays.asList("1", "2"));
+        multiMap.putAll(multiMap2);
+        Assert.assertEquals(3, multiMap.size());
+        Assert.assertEquals(2, multiMap.get("c").size());
+    }
+
+    @Test
+    public void testMapView() {
+        FlatMultiMap<String, String> multiMap = new FlatMultiMap<>();
+        Map<String, Collection<String>> map = multiMap.asMap();
+        map.put("a", Collections.singleton("1"));
+        Assert.assertEquals(Collections.singletonList("1"), multiMap.get("a"));
+        Assert.assertTrue(multiMap.get("a") instanceof List);
+        multiMap.put("a", "2");
+        Assert.assertEquals(Arrays.asList("1", "2"), multiMap.asListMap().get("a"));
+
+        multiMap.put("b", "3");
+        Assert.assertEquals(Arrays.asList("1", "2"), map.remove("a"));
+        Assert.assertNull(map.remove("a"));
+        Assert.assertEquals(1, map.size());
+
+        Iterator<Map.Entry<String, Collection<String>>> iterator = map.entrySet().iterator();
+        Map.Entry<String, Collection<String>> entry = iterator.next();
+        Assert.assertEquals("b", entry.getKey());
+        iterator.remove();
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertTrue(multiMap.isEmpty());
+
+        // values are copied, and the previous values are returned
+        List<String> values = Arrays.asList("1", "2");
+        Assert.assertNull(map.put("c", values));
+        multiMap.put("c", "3");
+        Assert.assertEquals(Arrays.asList("1", "2"), values);
+        Assert.assertEquals(Arrays.asList("1", "2", "3"), map.put("c", Collections.emptyList()));
+        Assert.assertEquals(Collections.emptyList(), map.put("c", Collections.singletonList("4")));
+        multiMap.put("c", "5");
+        Assert.assertEquals(Arrays.asList("4", "5"), multiMap.get("c"));
+    }
+
+    @Test
+    public void testPutEmptyValues() {
+        MultiMap<String, String> multiMap = new FlatMultiMap<>();
+        multiMap.putAll("a", Collections.emptyList());
+        multiMap.putAll("b", Collections::emptyIterator);
+        Assert.assertTrue(multiMap.isEmpty());
+        Assert.assertFalse(multiMap.containsKey("a"));
+        Assert.assertTrue(multiMap.asMap().isEmpty());
+    }
+}
@@ -108,6 +108,15 @@ public class StringUtilsTest {
         Assert.assertTrue(StringUtils.isNotEmpty("a"));
     }
 
+    @Test
+    public void toCamelCase() {
+        Assert.assertNull(StringUtils.toCamelCase(null));
+        Assert.assertEquals("", StringUtils.toCamelCase(""));
+        Assert.assertEquals("userName", StringUtils.toCamelCase("user_name"));
+        Assert.assertEquals("userName", StringUtils.toCamelCase("USER_NAME"));
+        Assert.assertEquals("id", StringUtils.toCamelCase("_id"));
+    }
+
     @Test
     public void isBlank() {
         Assert.assertTrue(StringUtils.isBlank(null));
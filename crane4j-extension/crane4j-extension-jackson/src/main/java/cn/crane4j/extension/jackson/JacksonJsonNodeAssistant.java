@@ -1,16 +1,30 @@
 package cn.crane4j.extension.jackson;
 
+import cn.crane4j.core.util.CollectionUtils;
 import cn.crane4j.core.util.ObjectUtils;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
-import lombok.Setter;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.ser.std.BooleanSerializer;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializer;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializers;
+import com.fasterxml.jackson.databind.ser.std.StringSerializer;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Jackson json node assistant.
+ * <p>Jackson json node assistant.<br />
+ * The property names determined by naming strategy are cached,
+ * and the simple values such as {@link String}, {@link Number} and {@link Boolean}
+ * are converted to json node directly if they are serialized by the standard serializers of Jackson.
  *
  * @author huangchengxing
  * @since 2.2.0
@@ -19,8 +33,9 @@ public class JacksonJsonNodeAssistant implements JsonNodeAssistant<JsonNode> {
 
     @NonNull
     private final ObjectMapper objectMapper;
-    @Setter
     protected PropertyNamingStrategy namingStrategy;
+    private final Map<String, String> propertyNames = new ConcurrentHashMap<>(32);
+    private final Map<Class<?>, Boolean> standardSerializedTypes = new ConcurrentHashMap<>(16);
 
     /**
      * Constructor.
@@ -34,6 +49,16 @@ public class JacksonJsonNodeAssistant implements JsonNodeAssistant<JsonNode> {
         );
     }
 
+    /**
+     * Set the naming strategy, the cached property names will be cleared.
+     *
+     * @param namingStrategy naming strategy
+     */
+    public void setNamingStrategy(PropertyNamingStrategy namingStrategy) {
+        this.namingStrategy = namingStrategy;
+        this.propertyNames.clear();
+    }
+
     /**
      * <p>Determine the property name when reading or writing for json node.
      *
@@ -46,8 +71,12 @@ public class JacksonJsonNodeAssistant implements JsonNodeAssistant<JsonNode> {
      */
     @Override
     public String determinePropertyName(String propertyName) {
-        return Objects.isNull(namingStrategy) ?
-            propertyName : namingStrategy.nameForField(objectMapper.getSerializationConfig(), null, propertyName);
+        if (Objects.isNull(namingStrategy)) {
+            return propertyName;
+        }
+        return CollectionUtils.computeIfAbsent(
+            propertyNames, propertyName, name -> namingStrategy.nameForField(objectMapper.getSerializationConfig(), null, name)
+        );
     }
 
     /**
@@ -58,7 +87,54 @@ public class JacksonJsonNodeAssistant implements JsonNodeAssistant<JsonNode> {
      */
     @Override
     public JsonNode convertTargetToJsonNode(Object target) {
-        return target instanceof JsonNode ?
-            (JsonNode)target : objectMapper.valueToTree(target);
+        if (target instanceof JsonNode) {
+            return (JsonNode)target;
+        }
+        JsonNode node = Objects.isNull(target) ? null : convertSimpleValueToJsonNode(target);
+        return Objects.isNull(node) ? objectMapper.valueToTree(target) : node;
+    }
+
+    @Nullable
+    private JsonNode convertSimpleValueToJsonNode(Object target) {
+        Class<?> type = target.getClass();
+        if (!isSimpleType(type) || !CollectionUtils.computeIfAbsent(standardSerializedTypes, type, this::isStandardSerialized)) {
+            return null;
+        }
+        JsonNodeFactory factory = objectMapper.getNodeFactory();
+        if (target instanceof String) {
+            return factory.textNode((String)target);
+        } else if (target instanceof Boolean) {
+            return factory.booleanNode((Boolean)target);
+        } else if (target instanceof Integer || target instanceof Short || target instanceof Byte) {
+            return factory.numberNode(((Number)target).intValue());
+        } else if (target instanceof Long) {
+            return factory.numberNode((Long)target);
+        } else if (target instanceof Double) {
+            return factory.numberNode((Double)target);
+        } else if (target instanceof Float) {
+            return factory.numberNode((Float)target);
+        } else if (target instanceof BigDecimal) {
+            return factory.numberNode((BigDecimal)target);
+        }
+        return factory.numberNode((BigInteger)target);
+    }
+
+    private static boolean isSimpleType(Class<?> type) {
+        return type == String.class || type == Boolean.class
+            || type == Integer.class || type == Long.class || type == Short.class || type == Byte.class
+            || type == Double.class || type == Float.class || type == BigDecimal.class || type == BigInteger.class;
+    }
+
+    private boolean isStandardSerialized(Class<?> type) {
+        Class<?> serializerType;
+        try {
+            serializerType = objectMapper.getSerializerProviderInstance().findValueSerializer(type).getClass();
+        } catch (JsonMappingException e) {
+            return false;
+        }
+        return serializerType == StringSerializer.class
+            || serializerType == BooleanSerializer.class
+            || serializerType == NumberSerializer.class
+            || serializerType.getEnclosingClass() == NumberSerializers.class;
     }
 }
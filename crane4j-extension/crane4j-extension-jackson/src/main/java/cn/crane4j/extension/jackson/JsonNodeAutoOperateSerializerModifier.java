@@ -1,41 +1,89 @@
 package cn.crane4j.extension.jackson;
 
 import cn.crane4j.annotation.AutoOperate;
+import cn.crane4j.core.exception.Crane4jException;
 import cn.crane4j.core.exception.OperationExecuteException;
 import cn.crane4j.core.support.AnnotationFinder;
 import cn.crane4j.core.support.auto.AutoOperateAnnotatedElement;
 import cn.crane4j.core.support.auto.AutoOperateAnnotatedElementResolver;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyName;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.introspect.VirtualAnnotatedMember;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.VirtualBeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.ArrayType;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.databind.util.Annotations;
+import com.fasterxml.jackson.databind.util.SimpleBeanPropertyDefinition;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * <p>Serializer modifier to reset the serializer for classes annotated by {@link AutoOperate}
  * to support filling according to the operation configuration during serialization.
  *
+ * <p>For the target object, the operations are executed on a {@link BeanOverlayNode}
+ * which reads properties from the object lazily and only holds the filled properties,
+ * then the object is serialized by its original serializer,
+ * and the filled properties are written to the {@link JsonGenerator} directly
+ * by the property writers injected in {@link #changeProperties},
+ * so it is not necessary to convert the whole object to a {@link JsonNode} tree.
+ *
+ * <p>When serializing a collection or an array which may contain objects annotated by {@link AutoOperate},
+ * the operations are executed once for all elements of the same type before serializing elements,
+ * so that the data source of container only be queried once for the whole collection.
+ *
  * @author huangchengxing
  * @see AutoOperateAnnotatedElementResolver
  * @see AutoOperateSerializer
+ * @see AutoOperateBatchSerializer
  * @see AutoOperate
  * @since 2.2.0
  */
 @RequiredArgsConstructor
 public class JsonNodeAutoOperateSerializerModifier extends BeanSerializerModifier {
 
+    /**
+     * Name of the virtual property used to write the filled properties
+     * which are not declared in the target type.
+     */
+    private static final String OVERLAY_PROPERTY_NAME = "$crane4j$overlay";
+
     private final AutoOperateSerializeContext context = new AutoOperateSerializeContext();
     private final AutoOperateAnnotatedElementResolver annotatedElementResolver;
     private final ObjectMapper objectMapper;
@@ -45,24 +93,111 @@ public class JsonNodeAutoOperateSerializerModifier extends BeanSerializerModifie
     @Override
     public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
         Class<?> targetType = beanDesc.getType().getRawClass();
-        return Optional.ofNullable(annotationFinder.findAnnotation(targetType, AutoOperate.class))
-            .map(autoOperate -> annotatedElementResolver.resolve(targetType, autoOperate))
-            .filter(element -> Objects.nonNull(element.getBeanOperations()) && !element.getBeanOperations().isEmpty())
+        return resolveAutoOperateElement(targetType)
             .<JsonSerializer<?>>map(element -> new AutoOperateSerializer((Class<Object>)targetType, element, (JsonSerializer<Object>)serializer))
             .orElse(serializer);
     }
 
     /**
-     *  Auto operate serialize context.
+     * Wrap the serializer of collection which may contain objects annotated by {@link AutoOperate}.
+     *
+     * @param config serialization config
+     * @param valueType collection type
+     * @param beanDesc bean description
+     * @param serializer serializer
+     * @return serializer
+     * @since 2.3.0
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public JsonSerializer<?> modifyCollectionSerializer(
+        SerializationConfig config, CollectionType valueType, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+        return mayContainAutoOperateElements(valueType.getContentType()) ?
+            new AutoOperateBatchSerializer(valueType.getRawClass(), (JsonSerializer<Object>)serializer) : serializer;
+    }
+
+    /**
+     * Wrap the serializer of array which may contain objects annotated by {@link AutoOperate}.
+     *
+     * @param config serialization config
+     * @param valueType array type
+     * @param beanDesc bean description
+     * @param serializer serializer
+     * @return serializer
+     * @since 2.3.0
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public JsonSerializer<?> modifyArraySerializer(
+        SerializationConfig config, ArrayType valueType, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+        return mayContainAutoOperateElements(valueType.getContentType()) ?
+            new AutoOperateBatchSerializer(valueType.getRawClass(), (JsonSerializer<Object>)serializer) : serializer;
+    }
+
+    private boolean mayContainAutoOperateElements(JavaType contentType) {
+        if (contentType.isPrimitive() || contentType.isContainerType()) {
+            return false;
+        }
+        return contentType.isJavaLangObject() || contentType.isAbstract()
+            || resolveAutoOperateElement(contentType.getRawClass()).isPresent();
+    }
+
+    /**
+     * Replace the property writers of classes annotated by {@link AutoOperate}
+     * to write the filled properties instead of the original values,
+     * and add a virtual property writer to write the filled properties which are not declared in class.
+     *
+     * @param config serialization config
+     * @param beanDesc bean description
+     * @param beanProperties property writers
+     * @return property writers
+     * @since 2.3.0
+     */
+    @Override
+    public List<BeanPropertyWriter> changeProperties(
+        SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+        if (!resolveAutoOperateElement(beanDesc.getBeanClass()).isPresent()) {
+            return beanProperties;
+        }
+        List<BeanPropertyWriter> writers = new ArrayList<>(beanProperties.size() + 1);
+        beanProperties.forEach(writer -> writers.add(new OverlayPropertyWriter(writer)));
+        AnnotatedClass annotatedClass = beanDesc.getClassInfo();
+        JavaType type = config.constructType(JsonNode.class);
+        VirtualAnnotatedMember member = new VirtualAnnotatedMember(
+            annotatedClass, beanDesc.getBeanClass(), OVERLAY_PROPERTY_NAME, type
+        );
+        BeanPropertyDefinition definition = SimpleBeanPropertyDefinition.construct(
+            config, member, PropertyName.construct(OVERLAY_PROPERTY_NAME)
+        );
+        writers.add(new OverlayFieldsWriter(definition, annotatedClass.getAnnotations(), type));
+        return writers;
+    }
+
+    private Optional<AutoOperateAnnotatedElement> resolveAutoOperateElement(Class<?> targetType) {
+        return Optional.ofNullable(annotationFinder.findAnnotation(targetType, AutoOperate.class))
+            .map(autoOperate -> annotatedElementResolver.resolve(targetType, autoOperate))
+            .filter(element -> Objects.nonNull(element.getBeanOperations()) && !element.getBeanOperations().isEmpty());
+    }
+
+    /**
+     * <p>Auto operate serialize context.<br />
+     * The objects currently being processed are recorded by identity in a stack reused by current thread,
+     * so it does not depend on {@link Object#hashCode()} of the objects,
+     * and no extra objects are created when recording.
      *
      * @author huangchengxing
      */
     private static class AutoOperateSerializeContext {
 
         /**
-         * threadLocal
+         * objects currently being processed by current thread
          */
-        private final ThreadLocal<Set<Integer>> threadLocal = new ThreadLocal<>();
+        private final ThreadLocal<ProcessingStack> processingStack = ThreadLocal.withInitial(ProcessingStack::new);
+
+        /**
+         * overlays of objects which operations have been executed in batch
+         */
+        private final ThreadLocal<Map<Object, BeanOverlayNode>> preparedOverlays = new ThreadLocal<>();
 
         /**
          * Record the objects currently being processed.
@@ -71,12 +206,7 @@ public class JsonNodeAutoOperateSerializerModifier extends BeanSerializerModifie
          * @return is the current object already being processed
          */
         public boolean process(Object target) {
-            Set<Integer> set = threadLocal.get();
-            if (Objects.isNull(set)) {
-                set = new HashSet<>();
-                threadLocal.set(set);
-            }
-            return set.add(target.hashCode());
+            return processingStack.get().push(target);
         }
 
         /**
@@ -85,23 +215,346 @@ public class JsonNodeAutoOperateSerializerModifier extends BeanSerializerModifie
          * @param target target
          */
         public void processed(Object target) {
-            Set<Integer> set = threadLocal.get();
-            if (Objects.nonNull(set)) {
-                set.remove(target.hashCode());
-                if (set.isEmpty()) {
-                    threadLocal.remove();
+            processingStack.get().pop(target);
+        }
+
+        /**
+         * Record the overlay of the object which is being processed.
+         *
+         * @param overlay overlay
+         */
+        public void setOverlay(BeanOverlayNode overlay) {
+            processingStack.get().setOverlay(overlay);
+        }
+
+        /**
+         * Get the overlay of the object which is being serialized.
+         *
+         * @param bean bean
+         * @return overlay, null if the object is not being serialized with overlay
+         */
+        @Nullable
+        public BeanOverlayNode getOverlay(Object bean) {
+            return processingStack.get().getOverlay(bean);
+        }
+
+        /**
+         * Record the overlays of objects which operations have been executed in batch.
+         *
+         * @param prepared objects and overlays
+         */
+        public void addPreparedOverlays(Map<Object, BeanOverlayNode> prepared) {
+            Map<Object, BeanOverlayNode> map = preparedOverlays.get();
+            if (Objects.isNull(map)) {
+                map = new IdentityHashMap<>(prepared.size());
+                preparedOverlays.set(map);
+            }
+            map.putAll(prepared);
+        }
+
+        /**
+         * Get the overlay of object which operations have been executed in batch.
+         *
+         * @param target target
+         * @return overlay, null if the operations of object have not been executed
+         */
+        @Nullable
+        public BeanOverlayNode getPreparedOverlay(Object target) {
+            Map<Object, BeanOverlayNode> map = preparedOverlays.get();
+            return Objects.isNull(map) ? null : map.get(target);
+        }
+
+        /**
+         * Remove the overlays of objects which have been serialized.
+         *
+         * @param targets targets
+         */
+        public void removePreparedOverlays(Collection<Object> targets) {
+            Map<Object, BeanOverlayNode> map = preparedOverlays.get();
+            if (Objects.nonNull(map)) {
+                targets.forEach(map::remove);
+                if (map.isEmpty()) {
+                    preparedOverlays.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * A stack of objects being processed and their overlays, the objects are compared by identity.
+     *
+     * @author huangchengxing
+     * @since 2.3.0
+     */
+    private static class ProcessingStack {
+
+        private Object[] targets = new Object[8];
+        private BeanOverlayNode[] overlays = new BeanOverlayNode[8];
+        private int size = 0;
+
+        /**
+         * Push the target if it is not in the stack.
+         *
+         * @param target target
+         * @return whether the target is pushed
+         */
+        public boolean push(Object target) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (targets[i] == target) {
+                    return false;
+                }
+            }
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size << 1);
+                overlays = Arrays.copyOf(overlays, size << 1);
+            }
+            targets[size++] = target;
+            return true;
+        }
+
+        /**
+         * Remove the target from the stack.
+         *
+         * @param target target
+         */
+        public void pop(Object target) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (targets[i] == target) {
+                    int moved = size - i - 1;
+                    if (moved > 0) {
+                        System.arraycopy(targets, i + 1, targets, i, moved);
+                        System.arraycopy(overlays, i + 1, overlays, i, moved);
+                    }
+                    size--;
+                    targets[size] = null;
+                    overlays[size] = null;
+                    return;
                 }
             }
         }
+
+        /**
+         * Set the overlay of the top target.
+         *
+         * @param overlay overlay
+         */
+        public void setOverlay(BeanOverlayNode overlay) {
+            if (size > 0 && targets[size - 1] == overlay.getBean()) {
+                overlays[size - 1] = overlay;
+            }
+        }
+
+        /**
+         * Get the overlay of the top target if the target is the specified bean.
+         *
+         * @param bean bean
+         * @return overlay
+         */
+        @Nullable
+        public BeanOverlayNode getOverlay(Object bean) {
+            return size > 0 && targets[size - 1] == bean ? overlays[size - 1] : null;
+        }
     }
 
     /**
-     * A serializer that supports the ability to turn objects into JsonNode trees
-     * and autofill according to operation configuration when serializing objects.
+     * <p>A {@link ObjectNode} which reads the properties from the bean lazily,
+     * and only holds the properties written by operations.<br />
+     * The container nodes read from bean are cached,
+     * so that the changes on them can be written when serializing.
      *
      * @author huangchengxing
+     * @since 2.3.0
      */
-    public class AutoOperateSerializer extends StdSerializer<Object> {
+    protected static class BeanOverlayNode extends ObjectNode {
+
+        private static final long serialVersionUID = 1L;
+
+        @Getter
+        private final transient Object bean;
+        private final transient ObjectMapper objectMapper;
+        private final transient Map<String, BeanPropertyWriter> propertyWriters;
+        private final transient Map<String, JsonNode> loadedNodes = new HashMap<>(4);
+
+        /**
+         * Create a {@link BeanOverlayNode} instance.
+         *
+         * @param objectMapper object mapper
+         * @param bean bean
+         * @param propertyWriters property writers of bean
+         */
+        public BeanOverlayNode(ObjectMapper objectMapper, Object bean, Map<String, BeanPropertyWriter> propertyWriters) {
+            super(objectMapper.getNodeFactory());
+            this.objectMapper = objectMapper;
+            this.bean = bean;
+            this.propertyWriters = propertyWriters;
+        }
+
+        /**
+         * Get the written property, or read it from bean if it is not written.
+         *
+         * @param propertyName property name
+         * @return property value
+         */
+        @Nullable
+        @Override
+        public JsonNode get(String propertyName) {
+            JsonNode node = super.get(propertyName);
+            if (Objects.nonNull(node)) {
+                return node;
+            }
+            node = loadedNodes.get(propertyName);
+            return Objects.nonNull(node) ? node : readFromBean(propertyName);
+        }
+
+        @Nullable
+        private JsonNode readFromBean(String propertyName) {
+            BeanPropertyWriter writer = propertyWriters.get(propertyName);
+            if (Objects.isNull(writer)) {
+                return null;
+            }
+            Object value;
+            try {
+                value = writer.get(bean);
+            } catch (Exception ex) {
+                throw new Crane4jException(ex);
+            }
+            if (Objects.isNull(value)) {
+                return null;
+            }
+            JsonNode node = objectMapper.valueToTree(value);
+            if (node.isContainerNode()) {
+                loadedNodes.put(propertyName, node);
+            }
+            return node;
+        }
+
+        /**
+         * <p>Get the node which should be written instead of the property value of bean.<br />
+         * The overlay is not changed when reading,
+         * so it can be reused if the same bean is serialized more than once.
+         *
+         * @param propertyName property name
+         * @return node, null if the property is neither written nor loaded
+         */
+        @Nullable
+        public JsonNode getOverlaid(String propertyName) {
+            JsonNode node = super.get(propertyName);
+            return Objects.nonNull(node) ? node : loadedNodes.get(propertyName);
+        }
+
+        /**
+         * Whether the property is declared in the bean and written by its property writer.
+         *
+         * @param propertyName property name
+         * @return true if the property is declared in the bean
+         */
+        public boolean isDeclared(String propertyName) {
+            return propertyWriters.containsKey(propertyName);
+        }
+    }
+
+    /**
+     * A property writer which write the node of overlay if exists.
+     *
+     * @author huangchengxing
+     * @since 2.3.0
+     */
+    protected class OverlayPropertyWriter extends BeanPropertyWriter {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Create a {@link OverlayPropertyWriter} instance.
+         *
+         * @param base original property writer
+         */
+        protected OverlayPropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            BeanOverlayNode overlay = context.getOverlay(bean);
+            JsonNode node = Objects.isNull(overlay) ? null : overlay.getOverlaid(getName());
+            if (Objects.isNull(node)) {
+                super.serializeAsField(bean, gen, prov);
+                return;
+            }
+            gen.writeFieldName(_name);
+            node.serialize(gen, prov);
+        }
+    }
+
+    /**
+     * A virtual property writer which write the remaining written properties of overlay,
+     * which are not declared in the bean type.
+     *
+     * @author huangchengxing
+     * @since 2.3.0
+     */
+    protected class OverlayFieldsWriter extends VirtualBeanPropertyWriter {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Create a {@link OverlayFieldsWriter} instance.
+         *
+         * @param definition property definition
+         * @param annotations context annotations
+         * @param type declared type
+         */
+        protected OverlayFieldsWriter(BeanPropertyDefinition definition, Annotations annotations, JavaType type) {
+            super(definition, annotations, type);
+        }
+
+        @Override
+        protected Object value(Object bean, JsonGenerator gen, SerializerProvider prov) {
+            return null;
+        }
+
+        @Override
+        public VirtualBeanPropertyWriter withConfig(
+            MapperConfig<?> config, AnnotatedClass declaringClass, BeanPropertyDefinition propDef, JavaType type) {
+            return new OverlayFieldsWriter(propDef, declaringClass.getAnnotations(), type);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            BeanOverlayNode overlay = context.getOverlay(bean);
+            if (Objects.isNull(overlay)) {
+                return;
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = overlay.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                // the declared properties have been written by the overlay property writers
+                if (overlay.isDeclared(field.getKey())) {
+                    continue;
+                }
+                gen.writeFieldName(field.getKey());
+                field.getValue().serialize(gen, prov);
+            }
+        }
+
+        @Override
+        public void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider prov) {
+            // virtual property is not supported when serialize as array
+        }
+
+        @Override
+        public void serializeAsOmittedField(Object bean, JsonGenerator gen, SerializerProvider prov) {
+            // do nothing
+        }
+    }
+
+    /**
+     * <p>A serializer that supports autofill according to operation configuration when serializing objects.<br />
+     * If the original serializer is a bean serializer, the filled properties will be written directly,
+     * otherwise the object will be converted to {@link JsonNode} tree and filled before writing.
+     *
+     * @author huangchengxing
+     */
+    public class AutoOperateSerializer extends StdSerializer<Object> implements ResolvableSerializer, ContextualSerializer {
 
         /**
          * Auto operate element which resolve from target type
@@ -113,6 +566,13 @@ public class JsonNodeAutoOperateSerializerModifier extends BeanSerializerModifie
          */
         private final transient JsonSerializer<Object> serializer;
 
+        /**
+         * Property writers of default serializer,
+         * null if the filled properties cannot be written by default serializer.
+         */
+        @Nullable
+        private final transient Map<String, BeanPropertyWriter> propertyWriters;
+
         /**
          * Constructor.
          *
@@ -123,6 +583,44 @@ public class JsonNodeAutoOperateSerializerModifier extends BeanSerializerModifie
             super(targetType);
             this.autoOperateType = autoOperateType;
             this.serializer = serializer;
+            this.propertyWriters = resolvePropertyWriters(serializer);
+        }
+
+        @Nullable
+        private Map<String, BeanPropertyWriter> resolvePropertyWriters(JsonSerializer<Object> serializer) {
+            if (!(serializer instanceof BeanSerializerBase)) {
+                return null;
+            }
+            Map<String, BeanPropertyWriter> writers = new HashMap<>(8);
+            boolean hasOverlayFieldsWriter = false;
+            Iterator<PropertyWriter> iterator = ((BeanSerializerBase)serializer).properties();
+            while (iterator.hasNext()) {
+                PropertyWriter writer = iterator.next();
+                if (writer instanceof OverlayFieldsWriter) {
+                    hasOverlayFieldsWriter = true;
+                } else if (writer instanceof BeanPropertyWriter) {
+                    writers.put(writer.getName(), (BeanPropertyWriter)writer);
+                }
+            }
+            return hasOverlayFieldsWriter ? writers : null;
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (serializer instanceof ResolvableSerializer) {
+                ((ResolvableSerializer)serializer).resolve(provider);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+            if (!(serializer instanceof ContextualSerializer)) {
+                return this;
+            }
+            JsonSerializer<?> contextual = ((ContextualSerializer)serializer).createContextual(prov, property);
+            return contextual == serializer ?
+                this : new AutoOperateSerializer((Class<Object>)handledType(), autoOperateType, (JsonSerializer<Object>)contextual);
         }
 
         @SuppressWarnings("all")
@@ -137,9 +635,19 @@ public class JsonNodeAutoOperateSerializerModifier extends BeanSerializerModifie
                 return;
             }
             try {
-                JsonNode jsonNode = objectMapper.valueToTree(target);
-                autoOperateType.execute(Collections.singletonList(jsonNode));
-                jsonGenerator.writeTree(jsonNode);
+                if (Objects.isNull(propertyWriters)) {
+                    JsonNode jsonNode = objectMapper.valueToTree(target);
+                    autoOperateType.execute(Collections.singletonList(jsonNode));
+                    jsonGenerator.writeTree(jsonNode);
+                    return;
+                }
+                BeanOverlayNode overlay = context.getPreparedOverlay(target);
+                if (Objects.isNull(overlay)) {
+                    overlay = new BeanOverlayNode(objectMapper, target, propertyWriters);
+                    autoOperateType.execute(Collections.singletonList(overlay));
+                }
+                context.setOverlay(overlay);
+                serializer.serialize(target, jsonGenerator, serializerProvider);
             } catch (Throwable ex) {
                 throw new OperationExecuteException(ex);
             } finally {
@@ -147,5 +655,138 @@ public class JsonNodeAutoOperateSerializerModifier extends BeanSerializerModifie
                 context.processed(target);
             }
         }
+
+        /**
+         * Execute operations for the targets in batch,
+         * and collect the overlays which should be used when serializing the targets.
+         *
+         * @param targets targets
+         * @param overlays targets and overlays
+         */
+        protected void executeInBatch(List<Object> targets, Map<Object, BeanOverlayNode> overlays) {
+            if (Objects.isNull(propertyWriters)) {
+                return;
+            }
+            List<BeanOverlayNode> nodes = new ArrayList<>(targets.size());
+            for (Object target : targets) {
+                if (!overlays.containsKey(target)) {
+                    BeanOverlayNode overlay = new BeanOverlayNode(objectMapper, target, propertyWriters);
+                    overlays.put(target, overlay);
+                    nodes.add(overlay);
+                }
+            }
+            try {
+                autoOperateType.execute(nodes);
+            } catch (Throwable ex) {
+                throw new OperationExecuteException(ex);
+            }
+        }
+    }
+
+    /**
+     * <p>A serializer for collection or array, which executes the operations
+     * for all elements of the same type in batch before serializing them.<br />
+     * The elements will be grouped by their actual types,
+     * and the elements whose serializer is {@link AutoOperateSerializer} will be processed.
+     *
+     * @author huangchengxing
+     * @see AutoOperateSerializer#executeInBatch
+     * @since 2.3.0
+     */
+    public class AutoOperateBatchSerializer extends StdSerializer<Object> implements ResolvableSerializer, ContextualSerializer {
+
+        /**
+         * Default serializer
+         */
+        private final transient JsonSerializer<Object> serializer;
+
+        /**
+         * Constructor.
+         *
+         * @param targetType target type
+         * @param serializer default serializer
+         */
+        @SuppressWarnings("unchecked")
+        protected AutoOperateBatchSerializer(Class<?> targetType, JsonSerializer<Object> serializer) {
+            super((Class<Object>)targetType);
+            this.serializer = serializer;
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (serializer instanceof ResolvableSerializer) {
+                ((ResolvableSerializer)serializer).resolve(provider);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+            if (!(serializer instanceof ContextualSerializer)) {
+                return this;
+            }
+            JsonSerializer<?> contextual = ((ContextualSerializer)serializer).createContextual(prov, property);
+            return contextual == serializer ?
+                this : new AutoOperateBatchSerializer(handledType(), (JsonSerializer<Object>)contextual);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return serializer.isEmpty(provider, value);
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            Map<Object, BeanOverlayNode> overlays = executeInBatch(value, provider);
+            if (overlays.isEmpty()) {
+                serializer.serialize(value, gen, provider);
+                return;
+            }
+            context.addPreparedOverlays(overlays);
+            try {
+                serializer.serialize(value, gen, provider);
+            } finally {
+                context.removePreparedOverlays(overlays.keySet());
+            }
+        }
+
+        @Override
+        public void serializeWithType(
+            Object value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+            Map<Object, BeanOverlayNode> overlays = executeInBatch(value, provider);
+            if (overlays.isEmpty()) {
+                serializer.serializeWithType(value, gen, provider, typeSer);
+                return;
+            }
+            context.addPreparedOverlays(overlays);
+            try {
+                serializer.serializeWithType(value, gen, provider, typeSer);
+            } finally {
+                context.removePreparedOverlays(overlays.keySet());
+            }
+        }
+
+        private Map<Object, BeanOverlayNode> executeInBatch(Object value, SerializerProvider provider) throws IOException {
+            Collection<?> elements = value instanceof Object[] ?
+                Arrays.asList((Object[])value) : (value instanceof Collection ? (Collection<?>)value : Collections.emptyList());
+            if (elements.size() < 2) {
+                return Collections.emptyMap();
+            }
+            // group elements by type
+            Map<Class<?>, List<Object>> groups = new LinkedHashMap<>(4);
+            for (Object element : elements) {
+                if (Objects.nonNull(element)) {
+                    groups.computeIfAbsent(element.getClass(), t -> new ArrayList<>()).add(element);
+                }
+            }
+            Map<Object, BeanOverlayNode> overlays = new IdentityHashMap<>(elements.size());
+            for (Map.Entry<Class<?>, List<Object>> group : groups.entrySet()) {
+                JsonSerializer<Object> elementSerializer = provider.findValueSerializer(group.getKey());
+                if (elementSerializer instanceof AutoOperateSerializer) {
+                    ((AutoOperateSerializer)elementSerializer).executeInBatch(group.getValue(), overlays);
+                }
+            }
+            return overlays;
+        }
     }
 }
@@ -3,11 +3,15 @@ package cn.crane4j.extension.jackson;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 
 import java.util.Objects;
 
 /**
- * A handler that supports reading and writing properties of {@link JsonNode}.
+ * <p>A handler that supports reading and writing properties of {@link JsonNode}.<br />
+ * By default, the value node will be read as text,
+ * if {@link #readNativeValues} is true, the numeric and boolean node
+ * will be read as {@link Number} and {@link Boolean}.
  *
  * @author huangchengxing
  * @see ObjectNode
@@ -19,7 +23,15 @@ public class JsonNodeHandler {
     /**
      * Json node assistant.
      */
-    private final JsonNodeAssistant<JsonNode> jsonNodeAssistant;
+    protected final JsonNodeAssistant<JsonNode> jsonNodeAssistant;
+
+    /**
+     * Whether to read numeric and boolean node as native java values instead of text.
+     *
+     * @since 2.3.0
+     */
+    @Setter
+    protected boolean readNativeValues = false;
 
     /**
      * Read the specified property value.
@@ -29,12 +41,37 @@ public class JsonNodeHandler {
      * @return property value
      */
     public Object read(Object node, String propertyName) {
+        return doRead(node, jsonNodeAssistant.determinePropertyName(propertyName));
+    }
+
+    /**
+     * Read the specified property value by the property name in json node.
+     *
+     * @param node json node
+     * @param actualPropertyName property name in json node
+     * @return property value
+     * @since 2.3.0
+     */
+    protected Object doRead(Object node, String actualPropertyName) {
         JsonNode jsonNode = jsonNodeAssistant.convertTargetToJsonNode(node);
-        String actualPropertyName = jsonNodeAssistant.determinePropertyName(propertyName);
         JsonNode result = jsonNode.get(actualPropertyName);
-        // TODO how to handle the value if accept type of container is not string?
+        if (Objects.isNull(result) || !result.isValueNode()) {
+            return result;
+        }
+        if (result.isTextual()) {
+            return result.textValue();
+        }
+        if (readNativeValues) {
+            if (result.isNumber()) {
+                return result.numberValue();
+            } else if (result.isBoolean()) {
+                return result.booleanValue();
+            } else if (result.isNull()) {
+                return null;
+            }
+        }
         // if the result is a value node, return the text value of it
-        return Objects.nonNull(result) && result.isValueNode() ? result.asText() : result;
+        return result.asText();
     }
 
     /**
@@ -45,9 +82,21 @@ public class JsonNodeHandler {
      * @param value        property value
      */
     public Object write(Object target, String propertyName, Object value) {
+        return doWrite(target, jsonNodeAssistant.determinePropertyName(propertyName), value);
+    }
+
+    /**
+     * Write the specified property value by the property name in json node.
+     *
+     * @param target json node
+     * @param actualPropertyName property name in json node
+     * @param value property value
+     * @return json node
+     * @since 2.3.0
+     */
+    protected Object doWrite(Object target, String actualPropertyName, Object value) {
         // it's only support writing to ObjectNode
         ObjectNode objectNode = (ObjectNode)target;
-        String actualPropertyName = jsonNodeAssistant.determinePropertyName(propertyName);
         // write value even if it's not exist in the target fields
         JsonNode jsonNode = jsonNodeAssistant.convertTargetToJsonNode(value);
         return objectNode.set(actualPropertyName, jsonNode);
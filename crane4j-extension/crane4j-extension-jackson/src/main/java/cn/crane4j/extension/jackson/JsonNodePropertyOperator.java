@@ -42,7 +42,8 @@ public class JsonNodePropertyOperator extends JsonNodeHandler implements Propert
         if (!(TreeNode.class.isAssignableFrom(targetType))) {
             return propertyOperator.findGetter(targetType, propertyName);
         }
-        return (t, args) -> read(t, propertyName);
+        String actualPropertyName = jsonNodeAssistant.determinePropertyName(propertyName);
+        return (t, args) -> doRead(t, actualPropertyName);
     }
 
     /**
@@ -58,7 +59,10 @@ public class JsonNodePropertyOperator extends JsonNodeHandler implements Propert
         if (!(TreeNode.class.isAssignableFrom(targetType))) {
             return propertyOperator.findSetter(targetType, propertyName);
         }
-        return JsonNode.class.isAssignableFrom(targetType) ?
-            (t, args) -> write(t, propertyName, args[0]) : null;
+        if (!JsonNode.class.isAssignableFrom(targetType)) {
+            return null;
+        }
+        String actualPropertyName = jsonNodeAssistant.determinePropertyName(propertyName);
+        return (t, args) -> doWrite(t, actualPropertyName, args[0]);
     }
 }
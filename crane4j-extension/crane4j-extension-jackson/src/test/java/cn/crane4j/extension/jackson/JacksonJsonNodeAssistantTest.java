@@ -3,12 +3,16 @@ package cn.crane4j.extension.jackson;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.math.BigDecimal;
+
 /**
  * test for {@link JacksonJsonNodeAssistant}
  *
@@ -28,11 +32,33 @@ public class JacksonJsonNodeAssistantTest {
         JsonNode node2 = assistant.convertTargetToJsonNode(foo);
         Assert.assertEquals(node2, node1);
 
+        Assert.assertEquals("user_name", assistant.determinePropertyName("userName"));
         Assert.assertEquals("user_name", assistant.determinePropertyName("userName"));
         assistant.setNamingStrategy(null);
         Assert.assertEquals("userName", assistant.determinePropertyName("userName"));
     }
 
+    @Test
+    public void convertSimpleValueToJsonNode() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JacksonJsonNodeAssistant assistant = new JacksonJsonNodeAssistant(objectMapper);
+        Assert.assertEquals(objectMapper.valueToTree("test"), assistant.convertTargetToJsonNode("test"));
+        Assert.assertEquals(objectMapper.valueToTree(1), assistant.convertTargetToJsonNode(1));
+        Assert.assertEquals(objectMapper.valueToTree(1L), assistant.convertTargetToJsonNode(1L));
+        Assert.assertEquals(objectMapper.valueToTree(1.5D), assistant.convertTargetToJsonNode(1.5D));
+        Assert.assertEquals(objectMapper.valueToTree(true), assistant.convertTargetToJsonNode(true));
+        Assert.assertEquals(objectMapper.valueToTree(BigDecimal.ONE), assistant.convertTargetToJsonNode(BigDecimal.ONE));
+        Assert.assertTrue(assistant.convertTargetToJsonNode(null).isNull());
+
+        // use custom serializer if registered
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(Long.class, ToStringSerializer.instance);
+        objectMapper = new ObjectMapper().registerModule(module);
+        assistant = new JacksonJsonNodeAssistant(objectMapper);
+        Assert.assertTrue(assistant.convertTargetToJsonNode(1L).isTextual());
+        Assert.assertTrue(assistant.convertTargetToJsonNode(1).isInt());
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
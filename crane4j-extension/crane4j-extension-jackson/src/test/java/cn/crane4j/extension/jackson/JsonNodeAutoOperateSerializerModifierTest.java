@@ -13,17 +13,25 @@ import cn.crane4j.core.support.converter.SimpleConverterManager;
 import cn.crane4j.core.support.expression.OgnlExpressionContext;
 import cn.crane4j.core.support.expression.OgnlExpressionEvaluator;
 import cn.crane4j.core.support.reflect.ReflectivePropertyOperator;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.SneakyThrows;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * test for {@link JsonNodeAutoOperateSerializerModifier}.
@@ -62,6 +70,77 @@ public class JsonNodeAutoOperateSerializerModifierTest {
         String json = objectMapper.writeValueAsString(foo);
         System.out.println(json);
         Assert.assertEquals("{\"user_id\":1,\"user_name\":\"name1\"}", json);
+
+        // filled property declared in class is written in place
+        Bar bar = new Bar(2, null, 18);
+        json = objectMapper.writeValueAsString(bar);
+        Assert.assertEquals("{\"user_id\":2,\"user_name\":\"name2\",\"user_age\":18}", json);
+        Assert.assertNull(bar.getUserName());
+
+        // objects with same hash code are processed respectively
+        Baz baz = new Baz(1, new Baz(1, null));
+        Assert.assertEquals(baz.hashCode(), baz.getChild().hashCode());
+        json = objectMapper.writeValueAsString(baz);
+        Assert.assertEquals(
+            "{\"user_id\":1,\"child\":{\"user_id\":1,\"child\":null,\"user_name\":\"name1\"},\"user_name\":\"name1\"}", json
+        );
+
+        // nested objects
+        json = objectMapper.writeValueAsString(Arrays.asList(foo, bar));
+        Assert.assertEquals(
+            "[{\"user_id\":1,\"user_name\":\"name1\"},{\"user_id\":2,\"user_name\":\"name2\",\"user_age\":18}]", json
+        );
+    }
+
+    @SneakyThrows
+    @Test
+    public void serializeCollectionInBatch() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+        JsonNodeAssistant<JsonNode> jsonNodeAssistant = new JacksonJsonNodeAssistant(objectMapper);
+        JsonNodePropertyOperator propertyOperator = new JsonNodePropertyOperator(jsonNodeAssistant, new ReflectivePropertyOperator());
+        SimpleCrane4jGlobalConfiguration configuration = SimpleCrane4jGlobalConfiguration.create(
+            SimpleAnnotationFinder.INSTANCE, new SimpleConverterManager(), propertyOperator
+        );
+        AutoOperateAnnotatedElementResolver elementResolver = new ClassBasedAutoOperateAnnotatedElementResolver(configuration, new OgnlExpressionEvaluator(), OgnlExpressionContext::new);
+        objectMapper.registerModule(new JsonNodeAutoOperateModule(elementResolver, objectMapper, SimpleAnnotationFinder.INSTANCE));
+
+        AtomicInteger queryCount = new AtomicInteger(0);
+        configuration.registerContainer(Containers.<String>forLambda("test", keys -> {
+            queryCount.incrementAndGet();
+            return keys.stream().collect(Collectors.toMap(Function.identity(), k -> "name" + k));
+        }));
+
+        // elements of list are filled by one query
+        List<Foo> foos = Arrays.asList(new Foo(1), new Foo(2), new Foo(3));
+        String json = objectMapper.writerFor(new TypeReference<List<Foo>>() {}).writeValueAsString(foos);
+        Assert.assertEquals(
+            "[{\"user_id\":1,\"user_name\":\"name1\"},{\"user_id\":2,\"user_name\":\"name2\"},{\"user_id\":3,\"user_name\":\"name3\"}]", json
+        );
+        Assert.assertEquals(1, queryCount.get());
+
+        // elements of different types in array are filled by one query per type
+        queryCount.set(0);
+        json = objectMapper.writeValueAsString(new Object[]{ new Foo(1), new Bar(2, null, 18), new Foo(3), "ignored" });
+        Assert.assertEquals(
+            "[{\"user_id\":1,\"user_name\":\"name1\"},{\"user_id\":2,\"user_name\":\"name2\",\"user_age\":18},{\"user_id\":3,\"user_name\":\"name3\"},\"ignored\"]", json
+        );
+        Assert.assertEquals(2, queryCount.get());
+
+        // the same instance appears more than once in list are all filled
+        queryCount.set(0);
+        Bar bar = new Bar(2, null, 18);
+        json = objectMapper.writerFor(new TypeReference<List<Bar>>() {}).writeValueAsString(Arrays.asList(bar, bar));
+        Assert.assertEquals(
+            "[{\"user_id\":2,\"user_name\":\"name2\",\"user_age\":18},{\"user_id\":2,\"user_name\":\"name2\",\"user_age\":18}]", json
+        );
+        Assert.assertEquals(1, queryCount.get());
+        Assert.assertNull(bar.getUserName());
+
+        // nothing is left after serialization, so single object is filled by itself
+        queryCount.set(0);
+        Assert.assertEquals("{\"user_id\":1,\"user_name\":\"name1\"}", objectMapper.writeValueAsString(foos.get(0)));
+        Assert.assertEquals(1, queryCount.get());
     }
 
     @AllArgsConstructor
@@ -74,4 +153,31 @@ public class JsonNodeAutoOperateSerializerModifierTest {
         )
         private Integer userId;
     }
+
+    @EqualsAndHashCode(onlyExplicitlyIncluded = true)
+    @AllArgsConstructor
+    @Getter
+    @AutoOperate
+    private static class Baz {
+        @EqualsAndHashCode.Include
+        @Assemble(
+            container = "test",
+            props = @Mapping(ref = "userName")
+        )
+        private Integer userId;
+        private Baz child;
+    }
+
+    @AllArgsConstructor
+    @Data
+    @AutoOperate
+    private static class Bar {
+        @Assemble(
+            container = "test",
+            props = @Mapping(ref = "userName")
+        )
+        private Integer userId;
+        private String userName;
+        private Integer userAge;
+    }
 }
@@ -25,9 +25,26 @@ public class JsonNodeHandlerTest {
         ObjectNode objectNode = objectMapper.valueToTree(foo);
         Assert.assertEquals("test", handler.read(objectNode, "name"));
 
+        Assert.assertEquals("1", handler.read(objectNode, "id"));
+        Assert.assertNull(handler.read(objectNode, "none"));
+
         // write
         handler.write(objectNode, "gender", "male");
         Assert.assertNotNull(objectNode.get("gender"));
+        handler.write(objectNode, "age", 18);
+        Assert.assertTrue(objectNode.get("age").isInt());
+        handler.write(objectNode, "adult", true);
+        Assert.assertTrue(objectNode.get("adult").isBoolean());
+        handler.write(objectNode, "removed", null);
+        Assert.assertTrue(objectNode.get("removed").isNull());
+
+        // read native values
+        handler.setReadNativeValues(true);
+        Assert.assertEquals(1, handler.read(objectNode, "id"));
+        Assert.assertEquals(18, handler.read(objectNode, "age"));
+        Assert.assertEquals(true, handler.read(objectNode, "adult"));
+        Assert.assertNull(handler.read(objectNode, "removed"));
+        Assert.assertEquals("test", handler.read(objectNode, "name"));
     }
 
     @Data
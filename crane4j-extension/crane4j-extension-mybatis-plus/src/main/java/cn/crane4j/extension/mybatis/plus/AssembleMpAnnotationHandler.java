@@ -4,20 +4,34 @@ import cn.crane4j.annotation.AssembleMp;
 import cn.crane4j.annotation.MappingType;
 import cn.crane4j.core.container.Container;
 import cn.crane4j.core.container.ContainerManager;
+import cn.crane4j.core.executor.handler.AssembleOperationHandler;
+import cn.crane4j.core.parser.BeanOperationParser;
 import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.parser.PropertyMapping;
 import cn.crane4j.core.parser.handler.AbstractAssembleAnnotationHandler;
 import cn.crane4j.core.parser.handler.OperationAnnotationHandler;
 import cn.crane4j.core.parser.handler.strategy.PropertyMappingStrategyManager;
 import cn.crane4j.core.parser.operation.AssembleOperation;
 import cn.crane4j.core.parser.operation.KeyTriggerOperation;
+import cn.crane4j.core.parser.operation.SimpleAssembleOperation;
 import cn.crane4j.core.support.AnnotationFinder;
 import cn.crane4j.core.support.Crane4jGlobalConfiguration;
 import cn.crane4j.core.support.Crane4jGlobalSorter;
+import cn.crane4j.core.util.CollectionUtils;
+import cn.crane4j.core.util.MultiMap;
 import lombok.experimental.Accessors;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.lang.reflect.AnnotatedElement;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * <p>The implementation of {@link OperationAnnotationHandler}.<br />
@@ -35,6 +49,12 @@ public class AssembleMpAnnotationHandler extends AbstractAssembleAnnotationHandl
     private static final String QUERY_CONTAINER_PROVIDER_NAME = "MybatisQueryContainerProvider";
     private final MybatisPlusQueryContainerProvider containerRegister;
 
+    /**
+     * the columns to query of each mapper and key which are derived from
+     * the operations of bean being resolved in current thread
+     */
+    private final ThreadLocal<Map<String, List<String>>> prunedSelects = new ThreadLocal<>();
+
     /**
      * Create a {@link AssembleMpAnnotationHandler} instance.
      *
@@ -70,6 +90,90 @@ public class AssembleMpAnnotationHandler extends AbstractAssembleAnnotationHandl
         globalConfiguration.registerContainerProvider(QUERY_CONTAINER_PROVIDER_NAME, containerRegister);
     }
 
+    /**
+     * <p>Resolve operations from the given {@code beanOperations}.<br />
+     * If projection pruning of {@link MybatisPlusQueryContainerProvider} is enabled,
+     * the source properties of all operations which query the same mapper by the same key
+     * and have no {@link AssembleMp#selects()} will be merged before creating operations,
+     * so that they still share one container and one query.
+     *
+     * @param parser parser
+     * @param beanOperations bean operations to be handler
+     */
+    @Override
+    public void resolve(BeanOperationParser parser, BeanOperations beanOperations) {
+        Map<String, List<String>> selects = containerRegister.isEnableProjectionPruning() ?
+            determinePrunedSelects(beanOperations) : Collections.emptyMap();
+        if (selects.isEmpty()) {
+            super.resolve(parser, beanOperations);
+            return;
+        }
+        prunedSelects.set(selects);
+        try {
+            super.resolve(parser, beanOperations);
+        } finally {
+            prunedSelects.remove();
+        }
+    }
+
+    /**
+     * Create assemble operation for given {@code annotation},
+     * if {@link AssembleMp#selects()} is empty,
+     * the columns to query will be the union of source properties of
+     * all operations which query the same mapper by the same key.
+     *
+     * @param annotation annotation
+     * @param sort sort
+     * @param key key
+     * @param handler assemble operation handler
+     * @param propertyMappings property mappings
+     * @return {@link AssembleOperation} instance
+     * @see MybatisPlusQueryContainerProvider#determineQueryProperties
+     */
+    @Override
+    protected AssembleOperation createAssembleOperation(
+        AssembleMp annotation, int sort, String key, AssembleOperationHandler handler, Set<PropertyMapping> propertyMappings) {
+        Map<String, List<String>> selects = prunedSelects.get();
+        String namespace = annotation.selects().length == 0 && Objects.nonNull(selects) ?
+            determineNamespace(annotation, selects.get(getQueryGroup(annotation))) : getContainerNamespace(annotation);
+        return new SimpleAssembleOperation(key, sort, propertyMappings, namespace, handler);
+    }
+
+    private Map<String, List<String>> determinePrunedSelects(BeanOperations beanOperations) {
+        AnnotatedElement source = beanOperations.getSource();
+        MultiMap<AnnotatedElement, AssembleMp> annotations = MultiMap.arrayListMultimap();
+        if (source instanceof Class<?>) {
+            Class<?> beanType = (Class<?>)source;
+            annotations.putAll(beanType, parseAnnotationForClass(beanType));
+            annotations.putAll(parseAnnotationForFields(beanType));
+        } else {
+            annotations.putAll(source, parseAnnotationForElement(source));
+        }
+        // collect property mappings of operations query the same mapper by the same key
+        Map<String, Set<PropertyMapping>> groups = new HashMap<>(4);
+        Map<String, String> mappers = new HashMap<>(4);
+        annotations.forEach((element, annotation) -> {
+            if (annotation.selects().length > 0) {
+                return;
+            }
+            StandardAnnotation standardAnnotation = getStandardAnnotation(beanOperations, element, annotation);
+            String key = parseKey(element, standardAnnotation);
+            String group = getQueryGroup(annotation);
+            mappers.put(group, annotation.mapper());
+            CollectionUtils.computeIfAbsent(groups, group, g -> new LinkedHashSet<>())
+                .addAll(parsePropertyMappings(element, standardAnnotation, key));
+        });
+        Map<String, List<String>> results = new HashMap<>(groups.size());
+        groups.forEach((group, mappings) -> results.put(
+            group, containerRegister.determineQueryProperties(mappers.get(group), null, mappings)
+        ));
+        return results;
+    }
+
+    private static String getQueryGroup(AssembleMp annotation) {
+        return annotation.mapper() + "#" + annotation.where();
+    }
+
     /**
      * Get container from given {@code annotation}.
      *
@@ -78,8 +182,12 @@ public class AssembleMpAnnotationHandler extends AbstractAssembleAnnotationHandl
      */
     @Override
     protected String getContainerNamespace(AssembleMp annotation) {
+        return determineNamespace(annotation, Arrays.asList(annotation.selects()));
+    }
+
+    private String determineNamespace(AssembleMp annotation, @Nullable List<String> selects) {
         String namespace = containerRegister.determineNamespace(
-            annotation.mapper(), annotation.where(), Arrays.asList(annotation.selects())
+            annotation.mapper(), annotation.where(), selects
         );
         if (annotation.mappingType() != MappingType.ONE_TO_ONE) {
             containerRegister.setMappingType(namespace, annotation.mappingType());
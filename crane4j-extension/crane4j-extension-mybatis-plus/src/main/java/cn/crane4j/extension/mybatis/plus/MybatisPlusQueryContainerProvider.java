@@ -8,6 +8,8 @@ import cn.crane4j.core.support.Crane4jGlobalConfiguration;
 import cn.crane4j.core.support.MethodInvoker;
 import cn.crane4j.core.support.container.MethodInvokerContainerCreator;
 import cn.crane4j.core.support.container.query.NamespaceResolvableQueryContainerProvider;
+import cn.crane4j.core.support.container.query.QueryRow;
+import cn.crane4j.core.support.reflect.PropertyOperator;
 import cn.crane4j.core.util.CollectionUtils;
 import cn.crane4j.core.util.ReflectUtils;
 import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
@@ -17,6 +19,7 @@ import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
 import com.baomidou.mybatisplus.core.metadata.TableInfo;
 import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -24,6 +27,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -31,6 +35,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -55,6 +61,61 @@ public class MybatisPlusQueryContainerProvider extends NamespaceResolvableQueryC
      */
     protected final Crane4jGlobalConfiguration crane4jGlobalConfiguration;
 
+    /**
+     * <p>The maximum number of keys in a single query statement,
+     * if the number of keys exceeds it, the keys will be split into multiple queries.<br />
+     * The number of keys in each statement will be padded to the power of two (not exceeding this value)
+     * by repeating the last key, so that the number of different statements is limited,
+     * and the statement cache of database can be reused.<br />
+     * If it is less than or equal to 0, all keys will be queried in one statement.
+     *
+     * <p><b>NOTE</b>: it only takes effect on containers created after it is set.
+     *
+     * @since 2.3.0
+     */
+    @Setter
+    private int maxKeysPerQuery = 0;
+
+    /**
+     * <p>The executor used to execute the split queries in parallel,
+     * if it is null, the split queries will be executed sequentially in the current thread.
+     *
+     * <p><b>NOTE</b>: it only takes effect on containers created after it is set.
+     *
+     * @see #maxKeysPerQuery
+     * @since 2.3.0
+     */
+    @Setter
+    @Nullable
+    private Executor queryExecutor;
+
+    /**
+     * <p>Whether to query the data as {@link QueryRow} instead of entity objects.<br />
+     * If enabled, the query results will be read by {@link BaseMapper#selectMaps}
+     * and converted to {@link QueryRow} which only holds an array of column values,
+     * so the entity objects will not be created and the values will not be read by reflection.<br />
+     * The keys of row are the property names of entity,
+     * so the {@link PropertyOperator} used by crane4j must be able to access {@link Map},
+     * otherwise no property can be read from the rows.
+     *
+     * <p><b>NOTE</b>:
+     * <ul>
+     *     <li>it only takes effect on containers created after it is set;</li>
+     *     <li>
+     *         the values in row are the raw values returned by JDBC driver,
+     *         the {@code TypeHandler} declared on the fields of entity and the conversion of enum
+     *         (such as {@code @EnumValue}) will not be applied,
+     *         so do not enable it if the entity relies on them;
+     *     </li>
+     * </ul>
+     *
+     * @see QueryRow
+     * @see cn.crane4j.core.support.reflect.MapAccessiblePropertyOperator
+     * @since 2.3.0
+     */
+    @Setter
+    private boolean queryAsRow = false;
+
     /**
      * Create a {@link MybatisPlusQueryContainerProvider} instance
      *
@@ -81,17 +142,15 @@ public class MybatisPlusQueryContainerProvider extends NamespaceResolvableQueryC
     }
 
     /**
-     * <p>Get a container based on repository object repository.<br />
-     * When querying, the attribute name of the input parameter will be converted to
-     * the table columns specified in the corresponding property.
+     * Get the registered repository object,
+     * if it is not registered, try to create and register it by {@link #mapperFactory}.
      *
-     * @param name        mapper name
-     * @param keyProperty key field name for query, if it is empty, it defaults to the specified key field
-     * @param properties  fields to query, if it is empty, all table columns will be queried by default.
-     * @return container
+     * @param name mapper name
+     * @return A {@link Repository} instance, or null if not registered.
      */
+    @Nullable
     @Override
-    public <K> Container<K> getQueryContainer(String name, @Nullable String keyProperty, @Nullable List<String> properties) {
+    protected Repository<BaseMapper<?>> getRepository(String name) {
         if (!registeredRepositories.containsKey(name) && Objects.nonNull(mapperFactory)) {
             synchronized (registeredRepositories) {
                 if (!registeredRepositories.containsKey(name)) {
@@ -99,7 +158,7 @@ public class MybatisPlusQueryContainerProvider extends NamespaceResolvableQueryC
                 }
             }
         }
-        return super.getQueryContainer(name, keyProperty, properties);
+        return super.getRepository(name);
     }
 
     /**
@@ -137,7 +196,28 @@ public class MybatisPlusQueryContainerProvider extends NamespaceResolvableQueryC
     protected MethodInvoker createMethodInvoker(
         String namespace, Repository<BaseMapper<?>> repository,
         Set<String> queryColumns, String keyColumn, String keyProperty) {
-        return new Query<>(repository.getTarget(), queryColumns.toArray(new String[0]), keyColumn);
+        String[] columns = queryColumns.toArray(new String[0]);
+        QueryRow.Header header = null;
+        if (queryAsRow) {
+            MapperInfo mapperInfo = (MapperInfo)repository;
+            header = mapperInfo.getRowHeader();
+            // make sure the labels of columns are property names
+            columns = queryColumns.isEmpty() ? mapperInfo.getAllQueryColumns() : columns;
+        }
+        return new Query<>(
+            repository.getTarget(), columns, keyColumn, maxKeysPerQuery, queryExecutor, header
+        );
+    }
+
+    /**
+     * Get type of query result.
+     *
+     * @param repository repository
+     * @return {@link QueryRow} if {@link #queryAsRow} is true, otherwise entity type
+     */
+    @Override
+    protected Class<?> getResultType(Repository<BaseMapper<?>> repository) {
+        return queryAsRow ? QueryRow.class : super.getResultType(repository);
     }
 
     /**
@@ -170,6 +250,8 @@ public class MybatisPlusQueryContainerProvider extends NamespaceResolvableQueryC
         private final BaseMapper<?> baseMapper;
         private final Map<String, String> columnMap;
         private final Map<String, String> queryColumnMap;
+        @Getter
+        private final QueryRow.Header rowHeader;
 
         /**
          * Constructs a new instance of MapperInfo with the provided TableInfo and BaseMapper.
@@ -186,6 +268,21 @@ public class MybatisPlusQueryContainerProvider extends NamespaceResolvableQueryC
             this.queryColumnMap = tableInfo.getFieldList().stream()
                 .collect(Collectors.toMap(TableFieldInfo::getProperty, TableFieldInfo::getSqlSelect));
             this.queryColumnMap.put(tableInfo.getKeyProperty(), tableInfo.getKeySqlSelect());
+            this.rowHeader = new QueryRow.Header(queryColumnMap.keySet().stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList())
+            );
+        }
+
+        /**
+         * Get all query columns of table.
+         *
+         * @return query columns
+         */
+        public String[] getAllQueryColumns() {
+            return queryColumnMap.values().stream()
+                .filter(Objects::nonNull)
+                .toArray(String[]::new);
         }
 
         /**
@@ -253,12 +350,32 @@ public class MybatisPlusQueryContainerProvider extends NamespaceResolvableQueryC
         }
     }
 
+    /**
+     * Query by keys with {@link BaseMapper#selectList}.
+     *
+     * @author huangchengxing
+     */
     @RequiredArgsConstructor
     protected static class Query<T> implements MethodInvoker {
 
         private final BaseMapper<T> baseMapper;
         private final String[] queryColumns;
         private final String key;
+        private final int maxKeysPerQuery;
+        @Nullable
+        private final Executor executor;
+        private final QueryRow.@Nullable Header header;
+
+        /**
+         * Create a query which queries all keys in one statement.
+         *
+         * @param baseMapper base mapper
+         * @param queryColumns query columns
+         * @param key key column
+         */
+        public Query(BaseMapper<T> baseMapper, String[] queryColumns, String key) {
+            this(baseMapper, queryColumns, key, 0, null, null);
+        }
 
         /**
          * Invoke method.
@@ -270,7 +387,43 @@ public class MybatisPlusQueryContainerProvider extends NamespaceResolvableQueryC
         @Override
         public Object invoke(Object target, Object... args) {
             Collection<?> keys = CollectionUtils.adaptObjectToCollection(args[0]);
-            return baseMapper.selectList(getQueryWrapper(keys));
+            if (maxKeysPerQuery <= 0 || keys.isEmpty()) {
+                return doQuery(keys);
+            }
+            List<List<Object>> chunks = splitKeys(keys, maxKeysPerQuery);
+            if (chunks.size() == 1) {
+                return doQuery(chunks.get(0));
+            }
+            return Objects.isNull(executor) ? querySequentially(chunks) : queryInParallel(chunks, executor);
+        }
+
+        private List<?> doQuery(Collection<?> keys) {
+            QueryWrapper<T> wrapper = getQueryWrapper(keys);
+            if (Objects.isNull(header)) {
+                return baseMapper.selectList(wrapper);
+            }
+            List<Map<String, Object>> columns = baseMapper.selectMaps(wrapper);
+            List<QueryRow> rows = new ArrayList<>(columns.size());
+            columns.forEach(c -> rows.add(header.createRow(c)));
+            return rows;
+        }
+
+        private List<Object> querySequentially(List<List<Object>> chunks) {
+            List<Object> results = new ArrayList<>();
+            for (List<Object> chunk : chunks) {
+                results.addAll(doQuery(chunk));
+            }
+            return results;
+        }
+
+        private List<Object> queryInParallel(List<List<Object>> chunks, Executor executor) {
+            List<CompletableFuture<List<?>>> futures = new ArrayList<>(chunks.size());
+            for (List<Object> chunk : chunks) {
+                futures.add(CompletableFuture.supplyAsync(() -> doQuery(chunk), executor));
+            }
+            List<Object> results = new ArrayList<>();
+            futures.forEach(future -> results.addAll(future.join()));
+            return results;
         }
 
         private QueryWrapper<T> getQueryWrapper(Collection<?> keys) {
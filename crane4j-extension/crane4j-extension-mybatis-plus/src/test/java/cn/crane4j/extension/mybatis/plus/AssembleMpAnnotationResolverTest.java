@@ -3,6 +3,7 @@ package cn.crane4j.extension.mybatis.plus;
 import cn.crane4j.annotation.AssembleMp;
 import cn.crane4j.annotation.Mapping;
 import cn.crane4j.core.container.Container;
+import cn.crane4j.core.container.ContainerManager;
 import cn.crane4j.core.container.MethodInvokerContainer;
 import cn.crane4j.core.parser.BeanOperationParser;
 import cn.crane4j.core.parser.BeanOperations;
@@ -22,7 +23,10 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * test for {@link AssembleMpAnnotationHandler}
@@ -34,6 +38,7 @@ public class AssembleMpAnnotationResolverTest extends MpBaseTest {
     private AssembleMpAnnotationHandler operationsResolver;
     private BeanOperationParser beanOperationParser;
     private Crane4jGlobalConfiguration configuration;
+    private MybatisPlusQueryContainerProvider register;
 
     @Before
     public void afterInit() {
@@ -41,7 +46,7 @@ public class AssembleMpAnnotationResolverTest extends MpBaseTest {
         configuration = SimpleCrane4jGlobalConfiguration.create();
         beanOperationParser = configuration.getBeanOperationsParser(BeanOperationParser.class);
         ConverterManager converterManager = new HutoolConverterManager();
-        MybatisPlusQueryContainerProvider register = new MybatisPlusQueryContainerProvider(
+        register = new MybatisPlusQueryContainerProvider(
             new MethodInvokerContainerCreator(new ReflectivePropertyOperator(new HutoolConverterManager()), converterManager), configuration
         );
         register.registerRepository("fooMapper", fooMapper);
@@ -50,11 +55,12 @@ public class AssembleMpAnnotationResolverTest extends MpBaseTest {
 
     @Test
     public void resolve() {
+        register.setEnableProjectionPruning(true);
         BeanOperations operations = new SimpleBeanOperations(Foo.class);
         operationsResolver.resolve(beanOperationParser, operations);
 
         Collection<AssembleOperation> assembleOperations = operations.getAssembleOperations();
-        Assert.assertEquals(2, assembleOperations.size());
+        Assert.assertEquals(5, assembleOperations.size());
 
         AssembleOperation idOperation = CollectionUtils.get(assembleOperations, 0);
         Assert.assertNotNull(idOperation);
@@ -69,6 +75,37 @@ public class AssembleMpAnnotationResolverTest extends MpBaseTest {
         Assert.assertEquals(1, keyOperation.getPropertyMappings().size());
         Container<?> keyContainer = configuration.getContainer(keyOperation.getContainer());
         Assert.assertTrue(keyContainer instanceof MethodInvokerContainer);
+
+        // derive columns to query from property mappings of operations query by the same key
+        AssembleOperation nameOperation = CollectionUtils.get(assembleOperations, 2);
+        Assert.assertNotNull(nameOperation);
+        Assert.assertEquals("userName", nameOperation.getKey());
+        Assert.assertEquals(
+            ContainerManager.canonicalNamespace(
+                register.determineNamespace("fooMapper", "userName", Arrays.asList("id", "userAge", "userSex")), "MybatisQueryContainerProvider"
+            ),
+            nameOperation.getContainer()
+        );
+        Container<Object> nameContainer = configuration.getContainer(nameOperation.getContainer());
+        Assert.assertNotNull(nameContainer);
+        Map<Object, ?> sources = nameContainer.get(Collections.singletonList("小明"));
+        Object source = sources.get("小明");
+        Assert.assertTrue(source instanceof cn.crane4j.extension.mybatis.plus.Foo);
+        Assert.assertEquals((Integer)18, ((cn.crane4j.extension.mybatis.plus.Foo)source).getUserAge());
+        Assert.assertEquals((Integer)1, ((cn.crane4j.extension.mybatis.plus.Foo)source).getId());
+        AssembleOperation aliasOperation = CollectionUtils.get(assembleOperations, 4);
+        Assert.assertEquals("alias", aliasOperation.getKey());
+        Assert.assertEquals(nameOperation.getContainer(), aliasOperation.getContainer());
+
+        // query all columns if the whole object is required
+        AssembleOperation userOperation = CollectionUtils.get(assembleOperations, 3);
+        Assert.assertNotNull(userOperation);
+        Assert.assertEquals(
+            ContainerManager.canonicalNamespace(
+                register.determineNamespace("fooMapper", "id", null), "MybatisQueryContainerProvider"
+            ),
+            userOperation.getContainer()
+        );
     }
 
     @AssembleMp(
@@ -87,5 +124,28 @@ public class AssembleMpAnnotationResolverTest extends MpBaseTest {
         private Integer key;
         private String name;
         private String age;
+
+        @AssembleMp(
+            mapper = "fooMapper", where = "userName",
+            props = {@Mapping(src = "userAge", ref = "age"), @Mapping(src = "userSex", ref = "sex")},
+            sort = 3
+        )
+        private String userName;
+        private Integer sex;
+
+        @AssembleMp(
+            mapper = "fooMapper", where = "id",
+            props = @Mapping(ref = "user"),
+            sort = 4
+        )
+        private Integer userId;
+        private Object user;
+
+        @AssembleMp(
+            mapper = "fooMapper", where = "userName",
+            props = @Mapping(src = "id", ref = "userId"),
+            sort = 5
+        )
+        private String alias;
     }
 }
@@ -6,14 +6,17 @@ import cn.crane4j.core.support.Crane4jGlobalConfiguration;
 import cn.crane4j.core.support.SimpleCrane4jGlobalConfiguration;
 import cn.crane4j.core.support.container.MethodInvokerContainerCreator;
 import cn.crane4j.core.support.container.query.AbstractQueryContainerProvider;
+import cn.crane4j.core.support.container.query.QueryRow;
 import cn.crane4j.core.support.converter.ConverterManager;
 import cn.crane4j.core.support.converter.HutoolConverterManager;
+import cn.crane4j.core.support.reflect.MapAccessiblePropertyOperator;
 import cn.crane4j.core.support.reflect.ReflectivePropertyOperator;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -70,6 +73,50 @@ public class MybatisPlusQueryContainerProviderTest extends MpBaseTest {
         checkContainer(container);
     }
 
+    @Test
+    public void queryWithSplitKeys() {
+        mybatisPlusQueryContainerProvider.setMaxKeysPerQuery(2);
+        Container<Object> container = mybatisPlusQueryContainerProvider.getQueryContainer("fooMapper", "id", Arrays.asList("name", "age"));
+        Map<Object, ?> results = container.get(Arrays.asList(1, 2, 3, 4, 5));
+        Assert.assertEquals(4, results.size());
+
+        // execute split queries by executor
+        mybatisPlusQueryContainerProvider.setQueryExecutor(Runnable::run);
+        container = mybatisPlusQueryContainerProvider.getQueryContainer("fooMapper", "id", Arrays.asList("name", "age", "sex"));
+        results = container.get(Arrays.asList(1, 2, 3, 4, 5));
+        Assert.assertEquals(4, results.size());
+    }
+
+    @Test
+    public void queryAsRow() {
+        ConverterManager converterManager = new HutoolConverterManager();
+        MybatisPlusQueryContainerProvider provider = new MybatisPlusQueryContainerProvider(
+            new MethodInvokerContainerCreator(new MapAccessiblePropertyOperator(new ReflectivePropertyOperator(converterManager)), converterManager),
+            SimpleCrane4jGlobalConfiguration.create(), name -> fooMapper
+        );
+        provider.setQueryAsRow(true);
+
+        // query specified columns
+        Container<Object> container = provider.getQueryContainer("fooMapper", "userName", Collections.singletonList("userAge"));
+        Map<Object, ?> results = container.get(Arrays.asList("小明", "小红"));
+        Assert.assertEquals(2, results.size());
+        Object row = results.get("小明");
+        Assert.assertTrue(row instanceof QueryRow);
+        Assert.assertEquals(18, ((Number)((QueryRow)row).get("userAge")).intValue());
+        Assert.assertEquals("小明", ((QueryRow)row).get("userName"));
+        Assert.assertNull(((QueryRow)row).get("userSex"));
+
+        // query all columns
+        provider.setMaxKeysPerQuery(1);
+        container = provider.getQueryContainer("fooMapper", null, null);
+        results = container.get(Arrays.asList(1, 2));
+        Assert.assertEquals(2, results.size());
+        row = results.get(1);
+        Assert.assertTrue(row instanceof QueryRow);
+        Assert.assertEquals("小明", ((QueryRow)row).get("userName"));
+        Assert.assertEquals(1, ((Number)((QueryRow)row).get("userSex")).intValue());
+    }
+
     private void checkContainer(Container<Object> container) {
         Assert.assertNotNull(container);
         Assert.assertTrue(container instanceof MethodInvokerContainer);
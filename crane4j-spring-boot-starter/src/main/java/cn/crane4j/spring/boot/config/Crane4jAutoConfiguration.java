@@ -18,6 +18,7 @@ import cn.crane4j.core.executor.handler.OneToManyAssembleOperationHandler;
 import cn.crane4j.core.executor.handler.OneToOneAssembleOperationHandler;
 import cn.crane4j.core.executor.handler.ReflectiveDisassembleOperationHandler;
 import cn.crane4j.core.parser.BeanOperationParser;
+import cn.crane4j.core.parser.BeanOperationsIndex;
 import cn.crane4j.core.parser.TypeHierarchyBeanOperationParser;
 import cn.crane4j.core.parser.handler.AssembleAnnotationHandler;
 import cn.crane4j.core.parser.handler.AssembleEnumAnnotationHandler;
@@ -39,6 +40,7 @@ import cn.crane4j.core.support.OperateTemplate;
 import cn.crane4j.core.support.ParameterNameFinder;
 import cn.crane4j.core.support.SimpleTypeResolver;
 import cn.crane4j.core.support.TypeResolver;
+import cn.crane4j.core.support.WarmUpProcessor;
 import cn.crane4j.core.support.auto.AutoOperateAnnotatedElementResolver;
 import cn.crane4j.core.support.auto.ClassBasedAutoOperateAnnotatedElementResolver;
 import cn.crane4j.core.support.auto.ComposableAutoOperateAnnotatedElementResolver;
@@ -378,9 +380,13 @@ public class Crane4jAutoConfiguration {
 
     @ConditionalOnMissingBean
     @Bean
-    public TypeHierarchyBeanOperationParser typeHierarchyBeanOperationParser(Collection<OperationAnnotationHandler> resolvers) {
+    public TypeHierarchyBeanOperationParser typeHierarchyBeanOperationParser(
+        Collection<OperationAnnotationHandler> resolvers, Properties properties, ApplicationContext applicationContext) {
         TypeHierarchyBeanOperationParser parser = new TypeHierarchyBeanOperationParser();
         resolvers.forEach(parser::addOperationAnnotationHandler);
+        if (properties.isEnableOperationsIndex()) {
+            parser.setOperationsIndex(BeanOperationsIndex.load(applicationContext.getClassLoader()));
+        }
         return parser;
     }
 
@@ -607,6 +613,36 @@ public class Crane4jAutoConfiguration {
          */
         private Set<String> operateEntityPackages = new LinkedHashSet<>();
 
+        /**
+         * <p>Whether to load the index of types which declare operations generated at compile time,
+         * then the parser skips the types not in the index,
+         * the types in the index are still resolved by reflection when they are first parsed.<br />
+         * <b>NOTE</b>:If enabled, all types which declare operations must be compiled with
+         * the annotation processor in {@code crane4j-annotation-processor},
+         * and the processor only recognizes the annotations in {@code cn.crane4j.annotation} or meta-annotated by them
+         * unless other packages are specified by its option {@code crane4j.index.annotationPackages}.
+         *
+         * @see BeanOperationsIndex
+         */
+        private boolean enableOperationsIndex = false;
+
+        /**
+         * <p>Whether to warm up the components in parallel after the application is started,
+         * includes parsing types in {@link #operateEntityPackages}, creating all registered containers,
+         * operator proxies and finding property accessors used by operations.<br />
+         * If not enabled, the types in {@link #operateEntityPackages} are only parsed.
+         *
+         * @see WarmUpProcessor
+         */
+        private boolean enableWarmUp = false;
+
+        /**
+         * Number of threads used to warm up components, it is the number of available processors by default.
+         *
+         * @see #enableWarmUp
+         */
+        private int warmUpParallelism = Runtime.getRuntime().availableProcessors();
+
         /**
          * Whether to enable automatic filling of aspect with method parameters.
          *
@@ -681,7 +717,11 @@ public class Crane4jAutoConfiguration {
             // load a constant class and register it as a container
             loadConstantClass();
             // pre resolution class operation configuration
-            loadOperateEntity();
+            if (properties.isEnableWarmUp()) {
+                warmUp();
+            } else {
+                loadOperateEntity();
+            }
             log.info("crane4j components initialization completed!");
         }
 
@@ -706,6 +746,15 @@ public class Crane4jAutoConfiguration {
                 );
         }
 
+        private void warmUp() {
+            WarmUpProcessor processor = new WarmUpProcessor(
+                applicationContext.getBeansOfType(BeanOperationParser.class).values(), configuration,
+                propertyOperator, applicationContext.getBeanProvider(OperatorProxyFactory.class).getIfAvailable()
+            );
+            processor.setParallelism(properties.getWarmUpParallelism());
+            processor.warmUp(loadTypes(properties.getOperateEntityPackages()));
+        }
+
         private Set<Class<?>> loadTypes(Collection<String> packages) {
             return packages.stream()
                 .map(embeddedValueResolver::resolveStringValue)
@@ -5,6 +5,7 @@ import cn.crane4j.core.parser.handler.strategy.PropertyMappingStrategyManager;
 import cn.crane4j.core.support.AnnotationFinder;
 import cn.crane4j.core.support.Crane4jGlobalConfiguration;
 import cn.crane4j.core.support.container.MethodInvokerContainerCreator;
+import cn.crane4j.core.util.Asserts;
 import cn.crane4j.extension.mybatis.plus.AssembleMpAnnotationHandler;
 import cn.crane4j.extension.mybatis.plus.MybatisPlusQueryContainerProvider;
 import com.baomidou.mybatisplus.autoconfigure.MybatisPlusAutoConfiguration;
@@ -46,11 +47,22 @@ public class Crane4jMybatisPlusAutoConfiguration {
     @ConditionalOnMissingBean
     public MybatisPlusQueryContainerProvider mybatisPlusQueryContainerProvider(
         MethodInvokerContainerCreator methodInvokerContainerCreator,
-        Crane4jGlobalConfiguration globalConfiguration, ApplicationContext applicationContext) {
-        return new MybatisPlusQueryContainerProvider(
+        Crane4jGlobalConfiguration globalConfiguration, ApplicationContext applicationContext,
+        Properties crane4jMybatisPlusProperties, Crane4jAutoConfiguration.Properties crane4jProperties) {
+        // the rows can only be read by the property operator which supports map
+        Asserts.isTrue(
+            !crane4jMybatisPlusProperties.isQueryAsRow() || crane4jProperties.isEnableMapOperate(),
+            "'{}.query-as-row' requires '{}.enable-map-operate' to be true",
+            Properties.CRANE4J_MP_EXTENSION_PREFIX, Crane4jAutoConfiguration.CRANE_PREFIX
+        );
+        MybatisPlusQueryContainerProvider provider = new MybatisPlusQueryContainerProvider(
             methodInvokerContainerCreator, globalConfiguration,
             mapperName -> applicationContext.getBean(mapperName, BaseMapper.class)
         );
+        provider.setMaxKeysPerQuery(crane4jMybatisPlusProperties.getMaxKeysPerQuery());
+        provider.setQueryAsRow(crane4jMybatisPlusProperties.isQueryAsRow());
+        provider.setEnableProjectionPruning(crane4jMybatisPlusProperties.isEnableProjectionPruning());
+        return provider;
     }
 
     @Bean
@@ -106,6 +118,33 @@ public class Crane4jMybatisPlusAutoConfiguration {
          * whether to register mapper automatically
          */
         private boolean autoRegisterMapper = false;
+
+        /**
+         * the maximum number of keys in a single query statement,
+         * if it is less than or equal to 0, all keys will be queried in one statement.
+         *
+         * @see MybatisPlusQueryContainerProvider#setMaxKeysPerQuery
+         */
+        private int maxKeysPerQuery = 0;
+
+        /**
+         * whether to query the data as lightweight rows instead of entity objects,
+         * it requires {@code crane4j.enable-map-operate} to be true, because the rows are read as {@link Map}.
+         * the values of rows are the raw values returned by JDBC driver,
+         * so the {@code TypeHandler} and enum conversion of entity will be bypassed.
+         *
+         * @see MybatisPlusQueryContainerProvider#setQueryAsRow
+         */
+        private boolean queryAsRow = false;
+
+        /**
+         * whether to only query the columns used by property mappings
+         * if {@code selects} of {@code @AssembleMp} is not specified,
+         * note that the other properties of the queried objects will not be populated.
+         *
+         * @see MybatisPlusQueryContainerProvider#setEnableProjectionPruning
+         */
+        private boolean enableProjectionPruning = false;
     }
 
     /**
@@ -0,0 +1,49 @@
+package cn.crane4j.spring.boot.config.main;
+
+import cn.crane4j.core.parser.BeanOperationParser;
+import cn.crane4j.core.parser.BeanOperations;
+import cn.crane4j.core.parser.TypeHierarchyBeanOperationParser;
+import cn.crane4j.core.util.ReflectUtils;
+import cn.crane4j.spring.boot.config.Crane4jAutoConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Map;
+
+/**
+ * test for {@link Crane4jAutoConfiguration.Properties#isEnableWarmUp()}
+ *
+ * @author huangchengxing
+ */
+@SpringBootApplication
+@TestPropertySource(properties = {
+    "spring.config.location = classpath:test.yml",
+    "crane4j.enable-warm-up = true",
+    "crane4j.warm-up-parallelism = 2"
+})
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Crane4jAutoConfiguration.class)
+public class Crane4jWarmUpTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    private Crane4jAutoConfiguration.Properties properties;
+
+    @Test
+    public void test() {
+        Assert.assertTrue(properties.isEnableWarmUp());
+        Assert.assertEquals(2, properties.getWarmUpParallelism());
+        BeanOperationParser parser = applicationContext.getBean(TypeHierarchyBeanOperationParser.class);
+        Map<Class<?>, BeanOperations> parsedBeanOperations = ReflectUtils.getFieldValue(parser, "resolvedElements");
+        Assert.assertTrue(parsedBeanOperations.containsKey(TestBean1.class));
+        Assert.assertTrue(parsedBeanOperations.containsKey(TestBean2.class));
+    }
+}